@@ -0,0 +1,60 @@
+package benchmark;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import model.Bomb;
+import model.Explosion;
+import model.Floor;
+import model.Tile;
+
+/**
+ * Benchmark della propagazione delle esplosioni: ad ogni operazione {@code BOMB_COUNT} bombe detonano
+ * (reazioni a catena incluse) e il terreno viene ripristinato per l'operazione successiva.
+ * Le allocazioni misurate includono quindi anche le bombe ripiazzate.
+ *
+ * @author Lorenzo Zanda
+ */
+public class BlastBenchmark extends SimulationBenchmark {
+
+	private Floor floor;
+	private List<Bomb> bombs;
+
+	/**
+	 * Genera il terreno, senza nemici, e piazza le bombe.
+	 */
+	@Setup
+	public void setup() {
+		int width = width();
+		int height = height();
+		floor = createFloor(width, height, 0);
+		bombs = createBombs(floor, width, height);
+	}
+
+	@Benchmark
+	public void blastPropagation(Blackhole blackhole) {
+
+		for (Bomb bomb : bombs) {
+			bomb.explode();
+		}
+		List<Explosion> explosions = floor.detonateBombs();
+		for (int i = 0; i < explosions.size(); i++) {
+			blackhole.consume(explosions.get(i).getExplosionTiles());
+		}
+
+		//Ripristino: i blocchi colpiti tornano intatti e le bombe vengono ripiazzate
+		for (Tile tile : floor.getTilesExploded()) {
+			tile.setHit(false);
+		}
+		floor.getTilesExploded().clear();
+
+		for (int i = 0; i < bombs.size(); i++) {
+			Bomb old = bombs.get(i);
+			Bomb bomb = new Bomb(old.getX(), old.getY(), old.getExplosionRadius());
+			floor.addBomb(bomb);
+			bombs.set(i, bomb);
+		}
+		floor.getScheduler().clear();
+	}
+}
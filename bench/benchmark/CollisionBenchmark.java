@@ -0,0 +1,61 @@
+package benchmark;
+
+import java.awt.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import model.Floor;
+
+/**
+ * Benchmark dei controlli di collisione del terreno con blocchi, nemici ed esplosioni.
+ * Ogni operazione verifica uno dei {@code COLLIDERS} collider casuali, a rotazione, contro un terreno
+ * con i nemici richiesti e {@code BOMB_COUNT} esplosioni attive.
+ *
+ * @author Lorenzo Zanda
+ */
+public class CollisionBenchmark extends SimulationBenchmark {
+
+	/** Numero di nemici sul terreno. */
+	@Param({"4", "32", "256"})
+	public int enemies;
+
+	private Floor floor;
+	private Rectangle[] colliders;
+	private int next;
+
+	/**
+	 * Genera il terreno, i collider e le esplosioni attive.
+	 */
+	@Setup
+	public void setup() {
+		int width = width();
+		int height = height();
+		floor = createFloor(width, height, enemies);
+		colliders = createColliders(width, height);
+		addExplosions(floor, width, height);
+	}
+
+	/**
+	 * Restituisce il prossimo collider da verificare.
+	 *
+	 * @return Il collider.
+	 */
+	private Rectangle nextCollider() {
+		return colliders[next++ & (COLLIDERS - 1)];
+	}
+
+	@Benchmark
+	public boolean collidesWithBlocks() {
+		return floor.collidesWithBlocks(nextCollider());
+	}
+
+	@Benchmark
+	public boolean collidesWithEnemies() {
+		return floor.collidesWithEnemies(nextCollider(), null);
+	}
+
+	@Benchmark
+	public boolean collidesWithExplosions() {
+		return floor.collidesWithExplosions(nextCollider());
+	}
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import model.Floor;
+
+/**
+ * Benchmark dell'aggiornamento di tutti i nemici di un terreno in un tick (movimento, collisioni e cambi di direzione).
+ *
+ * @author Lorenzo Zanda
+ */
+public class EnemyBenchmark extends SimulationBenchmark {
+
+	/** Numero di nemici sul terreno. */
+	@Param({"4", "32", "256"})
+	public int enemies;
+
+	private Floor floor;
+
+	/**
+	 * Genera il terreno con i nemici.
+	 */
+	@Setup
+	public void setup() {
+		floor = createFloor(width(), height(), enemies);
+	}
+
+	@Benchmark
+	public void enemyUpdateAll(Blackhole blackhole) {
+		floor.getScheduler().tick();
+		floor.updateEnemies();
+		blackhole.consume(floor.getEnemyStore());
+	}
+}
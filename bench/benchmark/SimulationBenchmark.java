@@ -0,0 +1,183 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.awt.Rectangle;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import controller.AudioManager;
+import model.Bomb;
+import model.EnemyStore;
+import model.Explosion;
+import model.Floor;
+import model.Tile;
+import model.TileType;
+import utilities.Constants;
+
+/**
+ * Classe base dei benchmark JMH dei percorsi critici della simulazione, eseguiti senza interfaccia grafica.
+ *
+ * Definisce la configurazione comune (tempo medio per operazione, iterazioni di riscaldamento e di misura,
+ * una JVM separata per ogni combinazione di parametri), il parametro delle dimensioni del terreno
+ * e la costruzione di scenari riproducibili (seed fisso).
+ * Le allocazioni per operazione si ottengono con il profiler {@code gc} di JMH, abilitato dalla build.
+ *
+ * Esecuzione: {@code gradle jmh}, oppure {@code gradle jmh -PjmhInclude=CollisionBenchmark} per un solo benchmark.
+ *
+ * @author Lorenzo Zanda
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public abstract class SimulationBenchmark {
+
+	/** Numero di bombe piazzate negli scenari con esplosioni. */
+	static final int BOMB_COUNT = 16;
+
+	/** Numero di collider (potenza di due) su cui ciclano i benchmark delle collisioni. */
+	static final int COLLIDERS = 1024;
+
+	static final long SEED = 42;
+
+	static final int TILESIZE = Constants.SCALED_TILESIZE;
+
+	/** Dimensioni del terreno, in celle ({@code larghezza x altezza}). */
+	@Param({"17x13", "33x25", "65x49"})
+	public String arena;
+
+	/**
+	 * Restituisce la larghezza del terreno del parametro {@code arena}, disabilitando l'audio al primo utilizzo.
+	 *
+	 * @return La larghezza del terreno (in celle).
+	 */
+	int width() {
+		AudioManager.getInstance().setMuted(true);
+		return Integer.parseInt(arena.substring(0, arena.indexOf('x')));
+	}
+
+	/**
+	 * Restituisce l'altezza del terreno del parametro {@code arena}.
+	 *
+	 * @return L'altezza del terreno (in celle).
+	 */
+	int height() {
+		return Integer.parseInt(arena.substring(arena.indexOf('x') + 1));
+	}
+
+	/**
+	 * Crea un terreno con bordi e pilastri indistruttibili, blocchi distruttibili casuali e i nemici richiesti
+	 * piazzati sulle celle pavimento.
+	 *
+	 * @param width La larghezza del terreno (in celle).
+	 * @param height L'altezza del terreno (in celle).
+	 * @param enemyCount Il numero di nemici da piazzare.
+	 * @return Il terreno generato.
+	 */
+	static Floor createFloor(int width, int height, int enemyCount) {
+
+		Random random = new Random(SEED);
+		Floor floor = new Floor(width, height, SEED);
+
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+
+				TileType type = TileType.FLOOR;
+				if (i == 0 || j == 0 || i == height-1 || j == width-1 || (i % 2 == 0 && j % 2 == 0)) {
+					type = TileType.UNBREAKABLE;
+				}
+				else if (i + j > 3 && random.nextDouble() < 0.3) {
+					type = TileType.BREAKABLE;
+				}
+				floor.setCell(new Tile(j, i, type));
+			}
+		}
+
+		List<int[]> freeCells = new ArrayList<int[]>();
+		for (int i = 1; i < height-1; i++) {
+			for (int j = 1; j < width-1; j++) {
+				if (floor.checkFloor(j, i) && i + j > 3) {
+					freeCells.add(new int[] {j, i});
+				}
+			}
+		}
+
+		for (int n = 0; n < enemyCount && !freeCells.isEmpty(); n++) {
+			int[] cell = freeCells.remove(random.nextInt(freeCells.size()));
+			int x = cell[0] * TILESIZE;
+			int y = cell[1] * TILESIZE;
+			floor.spawnEnemy(n % 2 == 0 ? EnemyStore.PUROPEN : EnemyStore.DENKYUN, x, y);
+		}
+
+		return floor;
+	}
+
+	/**
+	 * Crea dei collider casuali (delle dimensioni di un nemico) distribuiti sull'intero terreno.
+	 *
+	 * @param width La larghezza del terreno (in celle).
+	 * @param height L'altezza del terreno (in celle).
+	 * @return I collider generati.
+	 */
+	static Rectangle[] createColliders(int width, int height) {
+
+		Random random = new Random(SEED);
+		Rectangle[] colliders = new Rectangle[COLLIDERS];
+
+		for (int i = 0; i < COLLIDERS; i++) {
+			int x = random.nextInt((width - 1) * TILESIZE);
+			int y = random.nextInt((height - 1) * TILESIZE);
+			colliders[i] = new Rectangle(x, y, TILESIZE-12, TILESIZE-15);
+		}
+		return colliders;
+	}
+
+	/**
+	 * Fa esplodere {@code BOMB_COUNT} bombe sul terreno e registra le esplosioni risultanti come attive.
+	 *
+	 * @param floor Il terreno di gioco.
+	 * @param width La larghezza del terreno (in celle).
+	 * @param height L'altezza del terreno (in celle).
+	 */
+	static void addExplosions(Floor floor, int width, int height) {
+		for (Bomb bomb : createBombs(floor, width, height)) {
+			bomb.explode();
+		}
+		for (Explosion explosion : floor.detonateBombs()) {
+			floor.addExplosion(explosion);
+		}
+	}
+
+	/**
+	 * Piazza {@code BOMB_COUNT} bombe su celle pavimento casuali.
+	 *
+	 * @param floor Il terreno di gioco.
+	 * @param width La larghezza del terreno (in celle).
+	 * @param height L'altezza del terreno (in celle).
+	 * @return Le bombe piazzate.
+	 */
+	static List<Bomb> createBombs(Floor floor, int width, int height) {
+
+		Random random = new Random(SEED + 1);
+		List<Bomb> bombs = new ArrayList<Bomb>();
+
+		for (int attempts = 0; bombs.size() < BOMB_COUNT && attempts < width * height * 4; attempts++) {
+			Bomb bomb = new Bomb(1 + random.nextInt(width - 2), 1 + random.nextInt(height - 2), Constants.MAX_RADIUS);
+			if (floor.checkFloor(bomb.getX(), bomb.getY()) && floor.addBomb(bomb)) {
+				bombs.add(bomb);
+			}
+		}
+		return bombs;
+	}
+}
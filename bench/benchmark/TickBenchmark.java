@@ -0,0 +1,43 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import model.Floor;
+import model.Player;
+
+/**
+ * Benchmark di un tick completo della simulazione, con la stessa sequenza di aggiornamenti del {@code GameController}:
+ * terreno (bombe, esplosioni, blocchi, power-up), giocatore e nemici.
+ *
+ * @author Lorenzo Zanda
+ */
+public class TickBenchmark extends SimulationBenchmark {
+
+	/** Numero di nemici sul terreno. */
+	@Param({"4", "32", "256"})
+	public int enemies;
+
+	private Floor floor;
+	private Player player;
+
+	/**
+	 * Genera il terreno con i nemici e vi piazza il giocatore, immortale.
+	 */
+	@Setup
+	public void setup() {
+		floor = createFloor(width(), height(), enemies);
+		player = Player.getInstance();
+		player.setFloor(floor);
+		player.setValues();
+		player.setImmortal();
+	}
+
+	@Benchmark
+	public void fullTick(Blackhole blackhole) {
+		blackhole.consume(floor.update());
+		player.updatePosition();
+		floor.updateEnemies();
+	}
+}
@@ -1,44 +1,45 @@
 package controller;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
 import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
 
 /**
  * Classe che gestisce la riproduzione, l'interruzione e il loop
  * di file audio.
  * Utilizza il pattern "singleton" per garantire un'unica istanza globale.
  *
+ * I file audio vengono decodificati una sola volta dal {@code SoundBank} alla creazione dell'istanza.
+ * La riproduzione e' affidata a un {@code AudioMixer} software, che miscela tutte le voci attive
+ * su un'unica linea audio: il mixer viene avviato alla prima riproduzione.
+ *
  * @author Stefano Faralli
  * @author Lorenzo Zanda
+ * @see SoundBank
+ * @see AudioMixer
  */
 public class AudioManager {
 
 	private static AudioManager instance;
-	private Map<String, Clip> clipsMap;
+	private SoundBank soundBank;
+	private AudioMixer mixer;
+	private boolean muted;
 
     /**
      * Restituisce l'istanza singola di {@code AudioManager} (singleton pattern).
      *
      * @return L'istanza di {@code AudioManager}.
      */
-	public static AudioManager getInstance() {
+	public static synchronized AudioManager getInstance() {
 		if (instance == null)
 			instance = new AudioManager();
 		return instance;
 	}
 
     /**
-     * Costruttore privato della classe {@code AudioManager} che inizializza la mappa che conterra' le clip.
+     * Costruttore privato della classe {@code AudioManager} che decodifica tutti i file audio del gioco.
      */
 	private AudioManager() {
-		clipsMap = new HashMap<String, Clip>();
+		soundBank = new SoundBank();
+		soundBank.loadAll();
+		mixer = new AudioMixer();
 	}
 
     /**
@@ -47,81 +48,89 @@ public class AudioManager {
      * @param filename Il percorso del file audio da riprodurre.
      */
 	public void play(String filename) {
+		play(filename, 1f);
+	}
 
-		try {
-	        AudioInputStream audioIn = AudioSystem.getAudioInputStream(getClass().getResource(filename));
-			AudioFormat targetFormat = new AudioFormat(
-		                AudioFormat.Encoding.PCM_SIGNED,
-		                audioIn.getFormat().getSampleRate(),
-		                16,
-		                audioIn.getFormat().getChannels(),
-		                audioIn.getFormat().getChannels() * 2,
-		                audioIn.getFormat().getSampleRate(),
-		                false);
-
-	        AudioInputStream pcmSignedStream = AudioSystem.getAudioInputStream(targetFormat, audioIn);
-	        Clip clip = AudioSystem.getClip();
-	        clip.open(pcmSignedStream);
-	        clipsMap.put(filename, clip);
-	        clip.start();
-	        
-		} catch (FileNotFoundException e1) {
-			e1.printStackTrace();
-		} catch (IOException e1) {
-			e1.printStackTrace();
-		} catch (UnsupportedAudioFileException e1) {
-			e1.printStackTrace();
-		} catch (LineUnavailableException e1) {
-			e1.printStackTrace();
+    /**
+     * Riproduce un file audio specificato con il guadagno indicato.
+     *
+     * @param filename Il percorso del file audio da riprodurre.
+     * @param gain Il guadagno della riproduzione (1 = volume originale).
+     */
+	public synchronized void play(String filename, float gain) {
+		if (prepare(filename)) {
+			mixer.play(filename, soundBank.getSamples(filename), gain, false);
 		}
 	}
-	
+
     /**
      * Riproduce un file audio in loop continuo.
      *
      * @param filename Il percorso del file audio da riprodurre in loop.
      */
-	public void playLoop(String filename) {
+	public synchronized void playLoop(String filename) {
+		if (prepare(filename)) {
+			mixer.play(filename, soundBank.getSamples(filename), 1f, true);
+		}
+	}
+
+    /**
+     * Verifica che il file audio possa essere riprodotto e avvia il mixer, se necessario.
+     * Se non e' presente alcun dispositivo audio, la riproduzione viene disabilitata.
+     *
+     * @param filename Il percorso del file audio da riprodurre.
+     * @return {@code true} se il file audio puo' essere riprodotto, {@code false} altrimenti.
+     */
+	private boolean prepare(String filename) {
+
+		if (muted || !soundBank.contains(filename)) return false;
 
 		try {
-	        AudioInputStream audioIn = AudioSystem.getAudioInputStream(getClass().getResource(filename));
-			AudioFormat targetFormat = new AudioFormat(
-		                AudioFormat.Encoding.PCM_SIGNED,
-		                audioIn.getFormat().getSampleRate(),
-		                16,
-		                audioIn.getFormat().getChannels(),
-		                audioIn.getFormat().getChannels() * 2,
-		                audioIn.getFormat().getSampleRate(),
-		                false);
+			mixer.start();
+			return true;
 
-	        AudioInputStream pcmSignedStream = AudioSystem.getAudioInputStream(targetFormat, audioIn);
-	        Clip clip = AudioSystem.getClip();
-	        clip.open(pcmSignedStream);
-	        clipsMap.put(filename, clip);
-	        clip.loop(Clip.LOOP_CONTINUOUSLY);
-	        
-		} catch (FileNotFoundException e1) {
-			e1.printStackTrace();
-		} catch (IOException e1) {
-			e1.printStackTrace();
-		} catch (UnsupportedAudioFileException e1) {
-			e1.printStackTrace();
 		} catch (LineUnavailableException e1) {
 			e1.printStackTrace();
+		} catch (IllegalArgumentException e1) {
+			//Nessun dispositivo audio disponibile
+			e1.printStackTrace();
+			muted = true;
 		}
+		return false;
 	}
-	
+
+    /**
+     * Abilita o disabilita la riproduzione audio.
+     * Utilizzato dalla simulazione headless, che puo' essere eseguita su macchine prive di dispositivi audio.
+     *
+     * @param muted {@code true} per disabilitare la riproduzione, {@code false} per riabilitarla.
+     */
+	public synchronized void setMuted(boolean muted) {
+		this.muted = muted;
+	}
+
+    /**
+     * Verifica se la riproduzione audio e' disabilitata.
+     *
+     * @return {@code true} se la riproduzione e' disabilitata, {@code false} altrimenti.
+     */
+	public synchronized boolean isMuted() {
+		return muted;
+	}
+
     /**
      * Interrompe la riproduzione di un file audio specificato.
      *
      * @param filename Il percorso del file audio da interrompere.
      */
-	public void stop(String filename) {
-		if (clipsMap.containsKey(filename)) {
-			Clip clip = clipsMap.get(filename);
-			if (clip.isRunning()) {
-				clip.stop();
-			}
-		}
+	public synchronized void stop(String filename) {
+		mixer.stop(filename);
+	}
+
+    /**
+     * Interrompe tutte le riproduzioni, ferma il mixer e rilascia la linea audio.
+     */
+	public synchronized void close() {
+		mixer.close();
 	}
-}
\ No newline at end of file
+}
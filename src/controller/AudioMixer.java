@@ -0,0 +1,289 @@
+package controller;
+
+import java.util.Arrays;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Classe che implementa un mixer software con un'unica linea audio di uscita.
+ *
+ * Un thread dedicato somma, blocco dopo blocco, i campioni delle voci attive (con il rispettivo guadagno)
+ * e scrive il risultato su un solo {@code SourceDataLine}. Il buffer della linea, dimensionato su pochi blocchi,
+ * funge da buffer circolare tra il mixer e il dispositivo: la latenza resta costante e il numero di linee audio
+ * aperte non dipende dal numero di effetti riprodotti contemporaneamente.
+ *
+ * Il numero di voci e' limitato: se tutte le voci sono occupate, viene sostituita la voce non in loop
+ * avviata da piu' tempo (voice stealing).
+ *
+ * Quando nessuna voce e' attiva il thread del mixer resta in attesa, senza consumare CPU, fino alla riproduzione successiva.
+ *
+ * @author Lorenzo Zanda
+ * @see AudioManager
+ * @see SoundBank
+ */
+public class AudioMixer implements Runnable {
+
+	private final int MAX_VOICES = 16;
+	private final int BLOCK_FRAMES = 512;
+	private final int LINE_BLOCKS = 4;
+
+	private SourceDataLine line;
+	private Thread thread;
+	private volatile boolean running;
+
+	private String[] voiceSounds;
+	private short[][] voiceSamples;
+	private int[] voicePositions;
+	private float[] voiceGains;
+	private boolean[] voiceLooping;
+	private boolean[] voiceActive;
+	private long[] voiceStarted;
+	private long playCount;
+
+	private int[] mixBuffer;
+	private byte[] outputBuffer;
+
+	/**
+	 * Costruisce un nuovo {@code AudioMixer}. La linea audio viene aperta solo all'avvio del mixer.
+	 */
+	public AudioMixer() {
+		voiceSounds = new String[MAX_VOICES];
+		voiceSamples = new short[MAX_VOICES][];
+		voicePositions = new int[MAX_VOICES];
+		voiceGains = new float[MAX_VOICES];
+		voiceLooping = new boolean[MAX_VOICES];
+		voiceActive = new boolean[MAX_VOICES];
+		voiceStarted = new long[MAX_VOICES];
+
+		int channels = SoundBank.FORMAT.getChannels();
+		mixBuffer = new int[BLOCK_FRAMES * channels];
+		outputBuffer = new byte[BLOCK_FRAMES * SoundBank.FORMAT.getFrameSize()];
+	}
+
+	/**
+	 * Apre la linea audio e avvia il thread del mixer, se non e' gia' in esecuzione.
+	 *
+	 * @throws LineUnavailableException Se la linea audio non e' disponibile.
+	 * @throws IllegalArgumentException Se non e' presente alcun dispositivo audio compatibile.
+	 */
+	public synchronized void start() throws LineUnavailableException {
+
+		if (running) return;
+
+		line = AudioSystem.getSourceDataLine(SoundBank.FORMAT);
+		line.open(SoundBank.FORMAT, outputBuffer.length * LINE_BLOCKS);
+		line.start();
+
+		running = true;
+		thread = new Thread(this, "AudioMixer");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Ferma il thread del mixer, interrompe tutte le voci e chiude la linea audio.
+	 */
+	public void close() {
+
+		Thread mixerThread;
+		synchronized (this) {
+			running = false;
+			mixerThread = thread;
+			thread = null;
+			for (int i = 0; i < MAX_VOICES; i++) {
+				release(i);
+			}
+			notifyAll();
+		}
+
+		if (mixerThread != null) {
+			try {
+				mixerThread.join(500);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (line != null) {
+			line.stop();
+			line.close();
+			line = null;
+		}
+	}
+
+	/**
+	 * Verifica se il mixer e' in esecuzione.
+	 *
+	 * @return {@code true} se il mixer e' in esecuzione, {@code false} altrimenti.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Avvia la riproduzione di un campione su una voce libera (o sottratta a un'altra riproduzione).
+	 *
+	 * @param sound Il nome del suono, usato per interromperlo.
+	 * @param samples I campioni stereo interleaved da riprodurre.
+	 * @param gain Il guadagno della voce (1 = volume originale).
+	 * @param loop {@code true} per riprodurre il campione in loop continuo.
+	 * @return {@code true} se la riproduzione e' stata avviata, {@code false} se tutte le voci sono in loop.
+	 */
+	public synchronized boolean play(String sound, short[] samples, float gain, boolean loop) {
+
+		int voice = allocateVoice();
+		if (voice < 0 || samples.length == 0) return false;
+
+		voiceSounds[voice] = sound;
+		voiceSamples[voice] = samples;
+		voicePositions[voice] = 0;
+		voiceGains[voice] = gain;
+		voiceLooping[voice] = loop;
+		voiceActive[voice] = true;
+		voiceStarted[voice] = playCount++;
+		notifyAll();
+		return true;
+	}
+
+	/**
+	 * Interrompe tutte le voci che stanno riproducendo il suono specificato.
+	 *
+	 * @param sound Il nome del suono da interrompere.
+	 */
+	public synchronized void stop(String sound) {
+		for (int i = 0; i < MAX_VOICES; i++) {
+			if (voiceActive[i] && sound.equals(voiceSounds[i])) {
+				release(i);
+			}
+		}
+	}
+
+	/**
+	 * Modifica il guadagno di tutte le voci che stanno riproducendo il suono specificato.
+	 *
+	 * @param sound Il nome del suono.
+	 * @param gain Il nuovo guadagno (1 = volume originale).
+	 */
+	public synchronized void setGain(String sound, float gain) {
+		for (int i = 0; i < MAX_VOICES; i++) {
+			if (voiceActive[i] && sound.equals(voiceSounds[i])) {
+				voiceGains[i] = gain;
+			}
+		}
+	}
+
+	/**
+	 * Restituisce il numero di voci attualmente in riproduzione.
+	 *
+	 * @return Il numero di voci attive.
+	 */
+	public synchronized int getActiveVoices() {
+		int count = 0;
+		for (int i = 0; i < MAX_VOICES; i++) {
+			if (voiceActive[i]) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Ciclo del thread del mixer: miscela un blocco alla volta e lo scrive sulla linea audio.
+	 * La scrittura e' bloccante quando il buffer della linea e' pieno, e scandisce cosi' il ritmo del mixer.
+	 * Se non ci sono voci attive, il thread attende la riproduzione successiva.
+	 */
+	@Override
+	public void run() {
+		SourceDataLine output = line;
+		while (running) {
+			if (!awaitVoices()) break;
+			mixBlock();
+			output.write(outputBuffer, 0, outputBuffer.length);
+		}
+	}
+	
+	/**
+	 * Attende che almeno una voce sia attiva.
+	 *
+	 * @return {@code true} se ci sono voci da miscelare, {@code false} se il mixer e' stato fermato.
+	 */
+	private synchronized boolean awaitVoices() {
+		while (running && getActiveVoices() == 0) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return running;
+	}
+
+	/**
+	 * Somma i campioni delle voci attive in un blocco e lo converte in byte PCM a 16 bit, saturando i valori.
+	 * Le voci non in loop che raggiungono la fine del campione vengono liberate.
+	 */
+	private synchronized void mixBlock() {
+
+		Arrays.fill(mixBuffer, 0);
+
+		for (int voice = 0; voice < MAX_VOICES; voice++) {
+
+			if (!voiceActive[voice]) continue;
+
+			short[] samples = voiceSamples[voice];
+			float gain = voiceGains[voice];
+			int position = voicePositions[voice];
+
+			for (int i = 0; i < mixBuffer.length; i++) {
+
+				if (position >= samples.length) {
+					if (!voiceLooping[voice]) {
+						release(voice);
+						break;
+					}
+					position = 0;
+				}
+				mixBuffer[i] += (int)(samples[position++] * gain);
+			}
+			voicePositions[voice] = position;
+		}
+
+		for (int i = 0; i < mixBuffer.length; i++) {
+			int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+			outputBuffer[2*i] = (byte)sample;
+			outputBuffer[2*i + 1] = (byte)(sample >> 8);
+		}
+	}
+
+	/**
+	 * Sceglie la voce su cui avviare una nuova riproduzione.
+	 * Preferisce una voce libera; altrimenti sottrae la voce non in loop avviata da piu' tempo.
+	 *
+	 * @return L'indice della voce da usare, oppure -1 se tutte le voci sono occupate da riproduzioni in loop.
+	 */
+	private int allocateVoice() {
+
+		int oldest = -1;
+		for (int i = 0; i < MAX_VOICES; i++) {
+			if (!voiceActive[i]) {
+				return i;
+			}
+			if (!voiceLooping[i] && (oldest < 0 || voiceStarted[i] < voiceStarted[oldest])) {
+				oldest = i;
+			}
+		}
+		return oldest;
+	}
+
+	/**
+	 * Libera una voce.
+	 *
+	 * @param voice L'indice della voce da liberare.
+	 */
+	private void release(int voice) {
+		voiceActive[voice] = false;
+		voiceLooping[voice] = false;
+		voiceSamples[voice] = null;
+		voiceSounds[voice] = null;
+	}
+}
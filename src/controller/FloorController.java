@@ -1,19 +1,20 @@
 package controller;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import model.Player;
-import model.Denkyun;
 import model.Enemy;
-import model.Puropen;
+import model.EnemyStore;
 import model.Exit;
 import model.Floor;
 import model.PowerUp;
 import model.Tile;
 import model.TileType;
 import utilities.Constants;
+import utilities.GameRandom;
 import view.BomberManFrame;
 import view.BomberManPanel;
+import view.ChaserView;
 import view.DenkyunView;
 import view.EnemyView;
 import view.ExitView;
@@ -26,6 +27,10 @@ import view.TileView;
  * Classe che gestisce la logica di generazione e disposizione degli elementi 
  * all'interno del gioco.
  * 
+ * Se creata senza un frame (modalita' headless) genera soltanto il modello, senza associare alcuna vista:
+ * in questo modo il terreno puo' essere simulato anche in assenza di un display.
+ * Tutte le scelte casuali usano i generatori di {@code GameRandom}: a parita' di seme la mappa generata e' la stessa.
+ * 
  * @author Lorenzo Zanda
  */
 public class FloorController {
@@ -49,7 +54,15 @@ public class FloorController {
 	 * @param frame L'istanza di {@code BomberManFrame} che rappresenta il frame principale del gioco.
 	 */
 	public FloorController(BomberManFrame frame) {
+		this();
 		this.panel = frame.getGamePanel();
+	}
+	
+	/**
+	 * Costruttore della classe {@code FloorController} in modalita' headless.
+	 * Le mappe generate non hanno viste associate.
+	 */
+	public FloorController() {
 		this.width = Constants.COLS;
 		this.height = Constants.ROWS;
 		floor = new Floor(width, height);
@@ -63,7 +76,10 @@ public class FloorController {
      */
 	public void createMap() {
 		floor.clear();
-		panel.clear();
+		floor.setSeed(GameRandom.getInstance().get(GameRandom.Stream.SIMULATION).nextLong());
+		if (isRendered()) {
+			panel.clear();
+		}
 		generateMap();
 		placePlayer();
 		placePowerUps();
@@ -77,7 +93,7 @@ public class FloorController {
      */
 	private void generateMap() {
 		
-		Random random = new Random();
+		SplittableRandom random = GameRandom.getInstance().get(GameRandom.Stream.MAP);
 		
 		for (int i = 0; i < height; i++) {
 			for (int j = 0; j < width; j++) {
@@ -95,7 +111,9 @@ public class FloorController {
 		}
 		
 		clearSpawn();
-		setTileViews();
+		if (isRendered()) {
+			setTileViews();
+		}
 	}
 	
     /**
@@ -121,6 +139,7 @@ public class FloorController {
 				Tile tile = floor.getCell(i, j);
 				TileView tileView = new TileView();
 				tile.addObserver(tileView);
+				tile.addObserver(panel);
 				tile.modified();
 				panel.addTileToDraw(tile, tileView);
 			}
@@ -133,19 +152,21 @@ public class FloorController {
 	private void placePlayer() {
 		
 		Player player = Player.getInstance();
-		PlayerView playerView = new PlayerView();
-		player.addObserver(playerView);
-		player.modified();
-		panel.setPlayerView(playerView);
+		if (isRendered()) {
+			PlayerView playerView = new PlayerView();
+			player.addObserver(playerView);
+			player.addObserver(panel);
+			player.modified();
+			panel.setPlayerView(playerView);
+		}
 
 		// Se non e' la prima volta che viene creata la mappa -> resetta valori del giocatore
 		if (!firstTime) {
 			player.setValues();
 		}
-		else {
-			player.setFloor(floor);
-			
-		}
+		
+		//Il giocatore e' unico: si muove sempre sul terreno dell'ultimo controller che ha generato la mappa
+		player.setFloor(floor);
 	}
 	
     /**
@@ -154,18 +175,20 @@ public class FloorController {
      */
 	private void placePowerUps() {
 		
-		Random random = new Random();
+		SplittableRandom random = GameRandom.getInstance().get(GameRandom.Stream.POWER_UPS);
 		
 	    for (int i = 0; i < height; i++) {
 	        for (int j = 0; j < width; j++) {
 	            if (floor.getCell(i, j).getType() == TileType.BREAKABLE && random.nextDouble() < POWERUP_CHANCE) {
 	            	PowerUp powerUp = new PowerUp(j, i);
-	            	if (new Random().nextDouble() < powerUp.getSpawnPercent())
+	            	if (random.nextDouble() < powerUp.getSpawnPercent())
 	            		floor.addPowerUp(powerUp);
-	            		PowerUpView powerUpView= new PowerUpView();
-	            		powerUp.addObserver(powerUpView);
-	            		powerUp.modified();
-	            		panel.addPowerUpToDraw(powerUp, powerUpView);
+	            		if (isRendered()) {
+	            			PowerUpView powerUpView= new PowerUpView();
+	            			powerUp.addObserver(powerUpView);
+	            			powerUp.modified();
+	            			panel.addPowerUpToDraw(powerUp, powerUpView);
+	            		}
 	            }
 	        }
 	    }	
@@ -178,7 +201,7 @@ public class FloorController {
 	private void placeExit() {
 		
 		int exitX, exitY;
-		Random random = new Random();
+		SplittableRandom random = GameRandom.getInstance().get(GameRandom.Stream.MAP);
 		
 		do {
 			exitX = random.nextInt(width);
@@ -190,10 +213,12 @@ public class FloorController {
 		Exit exit = new Exit(exitX, exitY);
 		floor.setExit(new Exit(exitX, exitY));
 		
-		ExitView exitView = new ExitView();
-		exit.addObserver(exitView);
-		exit.modified();
-		panel.setExitView(exitView);
+		if (isRendered()) {
+			ExitView exitView = new ExitView();
+			exit.addObserver(exitView);
+			exit.modified();
+			panel.setExitView(exitView);
+		}
 		
 	}
 	
@@ -202,7 +227,7 @@ public class FloorController {
      */
 	private void placeEnemies() {
 		
-		Random random = new Random();
+		SplittableRandom random = GameRandom.getInstance().get(GameRandom.Stream.MAP);
 		int maximumEnemies = Constants.NUMBER_OF_ENEMIES[level];
 		
 	    for (int i = 0; i < height; i++) {
@@ -220,29 +245,24 @@ public class FloorController {
 	            && random.nextDouble() < ENEMY_CHANCE
 	            && floor.getEnemies().size() < maximumEnemies) {
 	            	
-	            	int randomType = random.nextInt(2);
+	            	//Dal secondo livello compaiono anche i nemici che inseguono il giocatore
+	            	int randomType = random.nextInt(level > 0 ? 3 : 2);
 	            	int enemyX = j * Constants.SCALED_TILESIZE;
 	            	int enemyY = i * Constants.SCALED_TILESIZE;
 	            	
-	            	Enemy enemy = null;
-	            	EnemyView enemyView = null;
-	            	
-	            	switch(randomType) {
-	            		case 0 -> {
-	            			enemy = new Puropen(enemyX, enemyY, floor); 
-	            			enemyView = new PuropenView();
-	            		}
-	            		case 1 -> {
-	            			enemy = new Denkyun(enemyX, enemyY, floor);
-	            			enemyView = new DenkyunView();
-	            		}
-	            	}
-	            	
-	            	floor.addEnemy(enemy);
+	            	Enemy enemy = floor.spawnEnemy(randomType, enemyX, enemyY);
 	            
-	            	enemy.addObserver(enemyView);
-	            	enemy.modified();
-	            	panel.addEnemyToDraw(enemy, enemyView);
+	            	if (isRendered()) {
+	            		EnemyView enemyView = switch (enemy.getType()) {
+	            			case EnemyStore.PUROPEN -> new PuropenView();
+	            			case EnemyStore.DENKYUN -> new DenkyunView();
+	            			default -> new ChaserView();
+	            		};
+	            		enemy.addObserver(enemyView);
+	            		enemy.addObserver(panel);
+	            		enemy.modified();
+	            		panel.addEnemyToDraw(enemy, enemyView);
+	            	}
 	            }
 	        }
 	    }	
@@ -259,6 +279,15 @@ public class FloorController {
 		return ((i == 0) || (j == 0) || (i == height-1) || (j == width-1) || (i % 2 == 0 && j % 2 == 0));
 	}
 	
+	/**
+	 * Verifica se il controller genera anche le viste degli elementi del terreno.
+	 * 
+	 * @return {@code true} se e' associato un pannello di gioco, {@code false} in modalita' headless.
+	 */
+	public boolean isRendered() {
+		return panel != null;
+	}
+	
 	/**
 	 * Restituisce il pavimento di gioco.
 	 * 
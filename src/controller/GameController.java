@@ -1,12 +1,10 @@
 package controller;
 
-import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import utilities.Constants;
 import model.User;
@@ -14,13 +12,11 @@ import model.Enemy;
 import model.Floor;
 import model.PowerUp;
 import model.Tile;
-import model.TileType;
 import model.Bomb;
 import model.Explosion;
+import model.TickScheduler;
 import view.BombView;
-import view.EnemyView;
 import view.ExplosionView;
-import view.TileView;
 import model.Player;
 import view.BomberManFrame;
 import view.BomberManPanel;
@@ -37,10 +33,14 @@ import view.StatsPanel;
  * del gioco o il completamento di un livello. 
  * 
  * Inoltre, gestisce l'utente che sta giocando, tenendo conto del suo progresso.
+ * 
+ * Come {@code Scene} della card di gioco, il controller esegue il {@code GameLoop} solo mentre la card e' mostrata:
+ * il ciclo viene fermato quando si passa a un'altra scena e parcheggiato quando la scena viene sospesa o il gioco messo in pausa.
  *
  * @author Lorenzo Zanda
+ * @see Scene
  */
-public class GameController {
+public class GameController implements Scene {
 	
 	private GameLoop gameLoop;
 	private InputController inputController;
@@ -56,8 +56,11 @@ public class GameController {
 	private Player player;
 	private Timer walkTimer; 
 	private int level = 0;
-	
-	private final int TILESIZE = Constants.SCALED_TILESIZE;
+	private boolean levelTransition;
+	private boolean playing;
+	private boolean paused;
+	private volatile boolean bombRequested;
+	private final int LEVEL_TRANSITION_DELAY = 3000;
 
 	/**
      * Costruttore della classe {@code GameController}.
@@ -90,112 +93,50 @@ public class GameController {
 	}
 	
     /**
-     * Piazza una bomba al centro del {@code Tile} in cui si trova il giocatore.
-     * La bomba  piazzata solo se il giocatore ha ancora bombe disponibili e il {@code Tile} corrente  di tipo {@code FLOOR}.
+     * Richiede il piazzamento di una bomba. Invocato dall'Event Dispatch Thread alla pressione del tasto:
+     * la bomba viene piazzata dal {@code GameLoop} al tick successivo, cosi' che il terreno di gioco
+     * venga modificato da un solo thread.
      */
 	public void placeBomb() {
+		bombRequested = true;
+	}
+	
+    /**
+     * Piazza una bomba al centro del {@code Tile} in cui si trova il giocatore, se richiesto.
+     * La bomba  piazzata solo se il giocatore ha ancora bombe disponibili e il {@code Tile} corrente  di tipo {@code FLOOR}.
+     */
+	private void handleBombRequest() {
 		
-		int x = player.getX();
-		int y = player.getY();
-		Rectangle boxCollider = player.getCollider();
+		if (!bombRequested) return;
+		bombRequested = false;
 		
-		//Bomba piazzata al centro del Tile in cui il Player la piazza
-    	int centerX = (x + boxCollider.width / 2) / TILESIZE * TILESIZE;
-        int centerY = (y + boxCollider.height / 2) / TILESIZE * TILESIZE;	 
-        
-		int normalizedX = ((centerX / TILESIZE) * TILESIZE) / TILESIZE;
-    	int normalizedY = ((centerY / TILESIZE) * TILESIZE) / TILESIZE;
-    	
-    	//Se puo' piazzare la Bomba e il Tile corrente e' un FLOOR
-    	if (player.getCurrentBombs() > 0 && floor.checkFloor(normalizedX, normalizedY)) {
- 
-    		Bomb bomb = new Bomb(normalizedX, normalizedY, player.getExplosionRadius());
-    		BombView bombView = new BombView();
-    		
-    		if (floor.addBomb(bomb)) {
-    			
-    			//Il giocatore puo' piazzare una bomba in meno
-    			player.setCurrentBombs(player.getCurrentBombs()-1);
-    	
-    			bomb.addObserver(bombView);
-    			bomb.modified();
-    			panel.addBombToDraw(bomb, bombView);
-    			
-    			//Bomba appena piazzata -> collisioni con la Bomba disattivate fin quando il Player non si allontana abbastanza
-    			bomb.setCollisionEnabled(false);
-    		}
-    	}  	
+		Bomb bomb = player.placeBomb();
+		if (bomb != null) {
+			BombView bombView = new BombView();
+			bomb.addObserver(bombView);
+			bomb.addObserver(panel);
+			bomb.modified();
+			panel.addBombToDraw(bomb, bombView);
+		}
 	}
 	
     /**
      * Aggiorna lo stato degli elementi che possono essere piazzati sul pavimento.
+     * Le tempistiche sono interamente gestite dal {@code Floor}: il controller si limita
+     * ad associare una vista alle nuove esplosioni e a riprodurre l'effetto sonoro.
      */
 	public void updatePlaceable() {
 		
-		// Rimuovi Tiles esplosi
-		Iterator<Tile> tileIterator = floor.getTilesExploded().iterator();
-		while (tileIterator.hasNext()) {
-		    Tile tile = tileIterator.next();
-		    TileView tileView = panel.getTilesMap().get(tile);
-		    if (tileView.animationFinished()) {
-		    	Tile newTile = new Tile(tile.getX(), tile.getY(), TileType.FLOOR);
-		        floor.setCell(newTile);
-		        
-		    	TileView newTileView = new TileView();
-		    	newTile.addObserver(newTileView);
-		    	newTile.modified();
-		        panel.addTileToDraw(newTile, newTileView);
-		        tileIterator.remove();
-		    }
-		}
-
-		// Rimuovi le Bombe esplose e crea le Esplosioni
-		Iterator<Bomb> bombIterator = floor.getBombsPlaced().iterator();
-		while (bombIterator.hasNext()) {
-		    Bomb bomb = bombIterator.next();
-		    if (bomb.isExploded()) {
-		        Explosion explosion = new Explosion(bomb, floor); 
-			    ExplosionView explosionView = new ExplosionView();
-			    explosion.addObserver(explosionView);
-			    explosion.modified();
-		        floor.addExplosion(explosion);
-			    panel.addExplosionToDraw(explosion, explosionView);
-		        floor.explodeBomb(explosion);
-		        AudioManager.getInstance().play("/audio/bomb-explodes.wav");
-		        bombIterator.remove();
-		    	//il giocatore pu ripiazzare una bomba in pi
-		    	player.setCurrentBombs(player.getCurrentBombs()+1);
-		    }
-		}
-
-		// Rimuovi le Esplosioni concluse
-		Iterator<Explosion> explosionIterator = floor.getExplosions().iterator();
-		while (explosionIterator.hasNext()) {
-			
-		    Explosion explosion = explosionIterator.next();
-		    ExplosionView explosionView = panel.getExplosionsMap().get(explosion);
-		    if (explosionView.isFinished()) {
-		        explosionIterator.remove();
-		    }
-		}
-
-		// Rimuovi i PowerUps raccolti
-		Iterator<PowerUp> powerUpIterator = floor.getPowerUps().iterator();
-		while (powerUpIterator.hasNext()) {
-		    PowerUp powerUp = powerUpIterator.next();
-		    if (powerUp.isCollected()) {
-		        powerUpIterator.remove();
-		    }
+		List<Explosion> detonated = floor.update();
+		for (Explosion explosion : detonated) {
+		    ExplosionView explosionView = new ExplosionView();
+		    explosion.addObserver(explosionView);
+		    explosion.addObserver(panel);
+		    explosion.modified();
+		    panel.addExplosionToDraw(explosion, explosionView);
 		}
-
-		// Rimuovi gli Enemies morti con animazione conclusa
-		Iterator<Enemy> enemyIterator = floor.getEnemies().iterator();
-		while (enemyIterator.hasNext()) {
-		    Enemy enemy = enemyIterator.next();
-		    EnemyView enemyView = panel.getEnemiesMap().get(enemy);
-		    if (!enemy.isAlive() && enemyView.animationFinished()) {
-		        enemyIterator.remove();
-		    }
+		if (!detonated.isEmpty()) {
+			AudioManager.getInstance().play("/audio/bomb-explodes.wav");
 		}
 	}
 	
@@ -210,15 +151,14 @@ public class GameController {
      * Aggiorna la posizione dei nemici.
      */
 	public void updateEnemies() {
-		for (Enemy enemy : floor.getEnemies()) {
-			enemy.updatePosition();
-		}
+		floor.updateEnemies();
 	}
 	
 	/**
 	 * Aggiorna lo stato del pavimento, del giocatore e dei nemici.
 	 */
 	public void updateFloor() {
+		handleBombRequest();
 		updatePlaceable();
 		updatePlayer();
 		updateEnemies();
@@ -226,14 +166,33 @@ public class GameController {
 	
 	/**
      * Aggiorna la logica di gioco in base alle condizioni attuali.
+     * Viene invocato dal {@code GameLoop} una volta per ogni tick logico.
+     * Le condizioni di game over e di fine livello dipendono solo dallo stato del modello;
+     * durante la transizione tra un livello e l'altro avanza soltanto lo scheduler.
      */
 	public void update() {
-    	if (!player.isAlive() && panel.getPlayerView().animationFinished()) gameOver();
-		if (player.isLevelFinished() && panel.getPlayerView().animationFinished()) nextLevel();
-		if (panel.isVisible()) {
-			updateFloor();
-			panel.repaint();
-			frame.getHudPanel().repaint();
+		if (levelTransition) {
+			floor.getScheduler().tick();
+			return;
+		}
+		
+    	if (!player.isAlive() && player.isAnimationFinished()) gameOver();
+		if (player.isLevelFinished() && player.isAnimationFinished()) nextLevel();
+		updateFloor();
+	}
+
+	/**
+	 * Pubblica l'istantanea da disegnare e presenta il frame del pannello di gioco (rendering attivo,
+	 * oppure ridisegno delle sole regioni modificate) e, se i valori sono cambiati, ridisegna l'HUD.
+	 * Viene invocato dal {@code GameLoop} al termine dei tick logici di ogni iterazione.
+	 */
+	public void render() {
+		if (!levelTransition) {
+			GameMetrics.getInstance().recordEntities(floor.getEnemies().size(), floor.getBombsPlaced().size(),
+					floor.getExplosions().size(), floor.getPowerUps().size());
+			panel.publishSnapshot();
+			panel.present();
+			frame.getHudPanel().repaintIfChanged();
 		}
 	}
 	 
@@ -247,6 +206,10 @@ public class GameController {
 		AudioManager.getInstance().playLoop("/audio/world1.wav");
 		setObservers();
 		player.setImmortal();
+		levelTransition = false;
+		bombRequested = false;
+		setPaused(false);
+		playing = true;
 		gameLoop.start();
 	}
 	
@@ -254,12 +217,105 @@ public class GameController {
 	 * Ferma il gioco.
 	 */
 	public void stopGame() {
+		playing = false;
 		walkTimer.stop();
 		AudioManager.getInstance().stop("/audio/game-over.wav");
 		AudioManager.getInstance().stop("/audio/world1.wav");
 		gameLoop.stop();
 	}
 	
+	/**
+	 * Mette in pausa o riprende il gioco.
+	 * In pausa il {@code GameLoop} viene parcheggiato e lo scheduler della simulazione fermato:
+	 * micce delle bombe, animazioni, transizioni di livello e timer del passo restano sospesi fino alla ripresa.
+	 *
+	 * @param paused {@code true} per mettere in pausa, {@code false} per riprendere.
+	 */
+	public void setPaused(boolean paused) {
+		
+		this.paused = paused;
+		floor.getScheduler().setPaused(paused);
+		panel.setPaused(paused);
+		
+		if (paused) {
+			gameLoop.suspend();
+			walkTimer.stop();
+			inputController.reset();
+			player.stop();
+		}
+		else {
+			gameLoop.resume();
+		}
+		panel.refresh();
+	}
+	
+	/**
+	 * Mostra o nasconde l'overlay delle metriche prestazionali sul pannello di gioco.
+	 */
+	public void toggleMetrics() {
+		panel.setMetricsVisible(!panel.isMetricsVisible());
+		panel.refresh();
+	}
+	
+	/**
+	 * Alterna lo stato di pausa del gioco, se una partita e' in corso.
+	 */
+	public void togglePause() {
+		if (playing) {
+			setPaused(!paused);
+		}
+	}
+	
+	/**
+	 * Verifica se il gioco e' in pausa.
+	 *
+	 * @return {@code true} se il gioco e' in pausa, {@code false} altrimenti.
+	 */
+	public boolean isPaused() {
+		return paused;
+	}
+	
+	/**
+	 * Scena di gioco mostrata: se una partita e' in corso e non e' in pausa, il ciclo di gioco viene ripreso.
+	 */
+	@Override
+	public void enter() {
+		if (playing && !paused) {
+			gameLoop.resume();
+		}
+	}
+	
+	/**
+	 * Scena di gioco nascosta: la partita in corso viene fermata e il thread del ciclo di gioco terminato.
+	 */
+	@Override
+	public void exit() {
+		if (playing) {
+			stopGame();
+		}
+	}
+	
+	/**
+	 * Scena di gioco sospesa (finestra ridotta a icona): il ciclo di gioco viene parcheggiato.
+	 */
+	@Override
+	public void suspend() {
+		gameLoop.suspend();
+		walkTimer.stop();
+		inputController.reset();
+		player.stop();
+	}
+	
+	/**
+	 * Scena di gioco ripresa: il ciclo di gioco riparte, a meno che il gioco non sia in pausa.
+	 */
+	@Override
+	public void resume() {
+		if (!paused) {
+			gameLoop.resume();
+		}
+	}
+	
 	/**
 	 * Resetta e riavvia il gioco.
 	 */
@@ -271,6 +327,7 @@ public class GameController {
 		floorController.setLevel(level);
 		panel.setLevel(level);
 		floorController.createMap();
+		panel.publishSnapshot();
 
 		startGame();
 	}
@@ -334,33 +391,29 @@ public class GameController {
 		frame.getHudPanel().setLevelScore(0);
 		
 		System.out.println("Score: "+ score);
-		stopGame();
 		
-		//Se non si trattava dell'ultimo livello -> Continua a giocare
-		if (level < Constants.MAX_LEVEL) {
-			new Timer(3000, new ActionListener() {
-				
-				@Override
-				public void actionPerformed(ActionEvent e) {
+		//Transizione -> simulazione sospesa, l'attesa e' scandita dallo scheduler
+		levelTransition = true;
+		walkTimer.stop();
+		AudioManager.getInstance().stop("/audio/world1.wav");
+		
+		floor.getScheduler().schedule(() -> {
+			gameLoop.stop();
+			
+			//Se non si trattava dell'ultimo livello -> Continua a giocare
+			if (level < Constants.MAX_LEVEL) {
+				SwingUtilities.invokeLater(() -> {
 					//Update statistiche dell'User
 					LoginDataManager.saveUsers(users);
 					restartGame();
-					((Timer) e.getSource()).stop();
-				}
-			}).start();
-		}
-		
-		//Altrimenti -> Win Game
-		else {
-			new Timer(3000, new ActionListener() {
-				
-				@Override
-				public void actionPerformed(ActionEvent e) {
-					winGame();
-					((Timer) e.getSource()).stop();
-				}
-			}).start();
-		}
+				});
+			}
+			
+			//Altrimenti -> Win Game
+			else {
+				SwingUtilities.invokeLater(this::winGame);
+			}
+		}, TickScheduler.toTicks(LEVEL_TRANSITION_DELAY));
 	}
 	
 	/**
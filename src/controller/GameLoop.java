@@ -2,6 +2,7 @@ package controller;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
 
 import utilities.Constants;
 
@@ -10,25 +11,46 @@ import utilities.Constants;
  * Si occupa di eseguire ciclicamente l'aggiornamento del controller del gioco a una frequenza specifica (FPS).
  *
  * La classe utilizza un {@code ExecutorService} per eseguire il ciclo di gioco in un thread separato.
- * Il ciclo di gioco  controllato da un timer che determina il tempo tra i frame, garantendo una frequenza costante.
+ * Il ciclo  a passo fisso: il tempo trascorso viene accumulato e consumato in tick logici di durata costante,
+ * separati dal disegno, che avviene una sola volta per iterazione.
+ * Tra un frame e l'altro il thread viene sospeso con {@code LockSupport.parkNanos} invece di restare in attesa attiva.
+ * Il ciclo puo' essere sospeso ({@link #suspend()}): il thread resta parcheggiato, senza consumare CPU,
+ * finche' il ciclo non viene ripreso ({@link #resume()}).
+ * La durata dei tick, del disegno e l'intervallo tra i frame vengono registrati in {@code GameMetrics}.
  *
  * @author Lorenzo Zanda
  * @see Runnable
  * @see ExecutorService
  */
 public class GameLoop implements Runnable {
-	
+
 	private GameController controller;
+	private GameMetrics metrics;
 	private ExecutorService executorService;
-	private boolean running = false;
-	
+	private volatile boolean running = false;
+	private volatile boolean suspended = false;
+	private volatile Thread thread;
+	private int maxCatchUpTicks;
+
 	/**
-     * Costruisce un nuovo {@code GameLoop}.
+     * Costruisce un nuovo {@code GameLoop} con il limite di recupero predefinito.
      *
      * @param controller Il {@code GameController} associato a questo loop.
      */
 	public GameLoop(GameController controller) {
-		this.controller = controller;	
+		this(controller, Constants.MAX_CATCH_UP_TICKS);
+	}
+
+	/**
+     * Costruisce un nuovo {@code GameLoop}.
+     *
+     * @param controller Il {@code GameController} associato a questo loop.
+     * @param maxCatchUpTicks Il numero massimo di tick logici eseguibili in una singola iterazione per recuperare il ritardo.
+     */
+	public GameLoop(GameController controller, int maxCatchUpTicks) {
+		this.controller = controller;
+		this.metrics = GameMetrics.getInstance();
+		setMaxCatchUpTicks(maxCatchUpTicks);
 	}
 
     /**
@@ -36,38 +58,81 @@ public class GameLoop implements Runnable {
      */
 	@Override
 	public void run() {
+		thread = Thread.currentThread();
+		metrics.resetFrameClock();
+		
 		//Game loop
-	    double timePerFrame = 1000000000.0 / Constants.FPS; 
-	    long lastFrame = System.nanoTime();
-	    long now = System.nanoTime();
-	    
-	    int frames = 0;
-	    long lastCheck = System.currentTimeMillis();
-
-	    while (running && !Thread.interrupted()) {
-	        now = System.nanoTime();
-	        if (now - lastFrame >= timePerFrame) {
+	    long timePerTick = 1000000000L / Constants.FPS;
+	    long lastTime = System.nanoTime();
+	    long accumulator = 0;
+
+	    while (isActive()) {
+
+	    	//Ciclo sospeso -> thread parcheggiato fino alla ripresa, il tempo trascorso non viene recuperato
+	    	if (suspended) {
+	    		LockSupport.park(this);
+	    		lastTime = System.nanoTime();
+	    		accumulator = 0;
+	    		metrics.resetFrameClock();
+	    		continue;
+	    	}
+
+	        long now = System.nanoTime();
+	        accumulator += now - lastTime;
+	        lastTime = now;
+
+	        //Tick logici a passo fisso
+	        int ticks = 0;
+	        while (isActive() && accumulator >= timePerTick && ticks < maxCatchUpTicks) {
+	        	long tickStart = System.nanoTime();
 	        	controller.update();
-	        	lastFrame = now;
-	        	frames++;
+	        	metrics.recordTick(System.nanoTime() - tickStart);
+	        	accumulator -= timePerTick;
+	        	ticks++;
+	        }
+
+	        //Ritardo eccessivo -> il tempo non recuperato viene scartato invece di accelerare la simulazione
+	        if (accumulator >= timePerTick) {
+	        	accumulator %= timePerTick;
 	        }
 
-	        if (System.currentTimeMillis() - lastCheck >= 1000) {
-	            lastCheck = System.currentTimeMillis();
-	            frames = 0;
+	        if (ticks > 0 && isActive()) {
+	        	long publishStart = System.nanoTime();
+	        	controller.render();
+	        	metrics.recordPublish(System.nanoTime() - publishStart);
+	        	metrics.recordFrame(publishStart);
+	        	metrics.probeEventDispatch();
+	        }
+
+	        //Attesa fino al prossimo tick
+	        long wait = timePerTick - accumulator - (System.nanoTime() - now);
+	        if (wait > 0) {
+	        	LockSupport.parkNanos(this, wait);
 	        }
 	    }
 	}
-	
+
+	/**
+	 * Verifica se il thread corrente deve continuare a eseguire il ciclo.
+	 * Il controllo dell'interruzione permette di terminare il thread anche quando il ciclo
+	 * viene fermato e riavviato dall'interno di un tick.
+	 *
+	 * @return {@code true} se il ciclo deve proseguire, {@code false} altrimenti.
+	 */
+	private boolean isActive() {
+		return running && !Thread.currentThread().isInterrupted();
+	}
+
     /**
      * Avvia il ciclo di gioco.
      */
 	public void start() {
+		suspended = false;
 		running = true;
 		executorService = Executors.newSingleThreadExecutor();
 		executorService.execute(this);
 	}
-	
+
     /**
      * Ferma l'esecuzione del ciclo.
      */
@@ -75,7 +140,62 @@ public class GameLoop implements Runnable {
 		if (executorService != null) {
 			running = false;
 			executorService.shutdownNow();
+			executorService = null;
 		}
 	}
 
+	/**
+	 * Sospende il ciclo: il thread viene parcheggiato al termine dell'iterazione corrente.
+	 */
+	public void suspend() {
+		suspended = true;
+	}
+
+	/**
+	 * Riprende il ciclo sospeso, risvegliando il thread.
+	 */
+	public void resume() {
+		suspended = false;
+		Thread loopThread = thread;
+		if (loopThread != null) {
+			LockSupport.unpark(loopThread);
+		}
+	}
+
+	/**
+	 * Verifica se il ciclo e' in esecuzione.
+	 *
+	 * @return {@code true} se il ciclo e' stato avviato e non ancora fermato, {@code false} altrimenti.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Verifica se il ciclo e' sospeso.
+	 *
+	 * @return {@code true} se il ciclo e' sospeso, {@code false} altrimenti.
+	 */
+	public boolean isSuspended() {
+		return suspended;
+	}
+
+	/**
+	 * Restituisce il numero massimo di tick logici eseguibili in una singola iterazione.
+	 *
+	 * @return Il limite di recupero dei tick.
+	 */
+	public int getMaxCatchUpTicks() {
+		return maxCatchUpTicks;
+	}
+
+	/**
+	 * Imposta il numero massimo di tick logici eseguibili in una singola iterazione.
+	 *
+	 * @param maxCatchUpTicks Il limite di recupero dei tick (almeno 1).
+	 */
+	public void setMaxCatchUpTicks(int maxCatchUpTicks) {
+		this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+	}
+
 }
@@ -0,0 +1,430 @@
+package controller;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import javax.management.JMException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.swing.SwingUtilities;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import utilities.Histogram;
+
+/**
+ * Classe che raccoglie le metriche prestazionali del gioco.
+ * Utilizza il pattern "singleton" per garantire un'unica istanza globale.
+ *
+ * Il {@code GameLoop} registra la durata di ogni tick logico, della pubblicazione e presentazione di ogni frame
+ * e l'intervallo tra due frame consecutivi; la durata del disegno vero e proprio viene registrata dal thread che disegna
+ * (l'Event Dispatch Thread, oppure il thread del ciclo di gioco con il rendering attivo);
+ * la latenza dell'Event Dispatch Thread viene misurata inviando periodicamente un evento e registrando il ritardo
+ * con cui viene eseguito. Le pause del garbage collector vengono ricevute tramite le notifiche JMX dei collector.
+ * Le durate sono registrate in nanosecondi in istogrammi log-lineari ({@code Histogram}), da cui si ricavano i percentili.
+ * Una volta al secondo vengono calcolati i frame per secondo e la velocita' di allocazione del thread del ciclo di gioco.
+ *
+ * Le metriche vengono mostrate dall'overlay del {@code BomberManPanel} e sono esposte come MBean
+ * con nome {@code jbomberman:type=GameMetrics}.
+ *
+ * @author Lorenzo Zanda
+ * @see GameMetricsMBean
+ * @see Histogram
+ */
+public class GameMetrics implements GameMetricsMBean {
+
+	private static final long ONE_SECOND = 1000000000L;
+	private static final double NANOS_PER_MILLI = 1000000.0;
+
+	private static GameMetrics instance;
+
+	private final Histogram tickTime = new Histogram();
+	private final Histogram renderTime = new Histogram();
+	private final Histogram publishTime = new Histogram();
+	private final Histogram frameTime = new Histogram();
+	private final Histogram edtLatency = new Histogram();
+	private final Histogram gcPause = new Histogram();
+
+	private volatile int framesPerSecond;
+	private volatile long allocationRate;
+	private volatile int enemies;
+	private volatile int bombs;
+	private volatile int explosions;
+	private volatile int powerUps;
+
+	//Stato del thread del ciclo di gioco
+	private long lastFrame;
+	private long secondStart;
+	private int frames;
+	private long allocatedBytes = -1;
+
+	//Sonda della latenza dell'Event Dispatch Thread
+	private volatile long probePosted;
+	private volatile boolean probePending;
+	private final Runnable edtProbe = () -> {
+		edtLatency.record(System.nanoTime() - probePosted);
+		probePending = false;
+	};
+
+    /**
+     * Restituisce l'istanza singola di {@code GameMetrics} (singleton pattern).
+     *
+     * @return L'istanza di {@code GameMetrics}.
+     */
+	public static synchronized GameMetrics getInstance() {
+		if (instance == null)
+			instance = new GameMetrics();
+		return instance;
+	}
+
+    /**
+     * Costruttore privato della classe {@code GameMetrics} che registra l'MBean e si mette in ascolto delle pause del garbage collector.
+     */
+	private GameMetrics() {
+		registerMBean();
+		listenGarbageCollections();
+	}
+
+	/**
+	 * Registra l'istanza come MBean sul server JMX della piattaforma.
+	 */
+	private void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName("jbomberman:type=GameMetrics"));
+		} catch (JMException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Si mette in ascolto delle notifiche dei garbage collector, registrando la durata di ogni pausa.
+	 * I collector concorrenti (cicli di G1 e ZGC) vengono ignorati: la loro durata non blocca l'applicazione.
+	 */
+	private void listenGarbageCollections() {
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+
+			String name = collector.getName();
+			if (!(collector instanceof NotificationEmitter) || name.contains("Concurrent") || name.contains("Cycles")) continue;
+
+			((NotificationEmitter) collector).addNotificationListener((Notification notification, Object handback) -> {
+				if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+					GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+					gcPause.record(info.getGcInfo().getDuration() * 1000000L);
+				}
+			}, null, null);
+		}
+	}
+
+	/**
+	 * Registra la durata di un tick logico.
+	 *
+	 * @param nanos La durata in nanosecondi.
+	 */
+	public void recordTick(long nanos) {
+		tickTime.record(nanos);
+	}
+
+	/**
+	 * Registra la durata del disegno di un frame. Puo' essere invocato da qualsiasi thread.
+	 *
+	 * @param nanos La durata in nanosecondi.
+	 */
+	public void recordRender(long nanos) {
+		renderTime.record(nanos);
+	}
+
+	/**
+	 * Registra la durata della pubblicazione dell'istantanea e della presentazione di un frame, dal lato del ciclo di gioco.
+	 * Con il ridisegno passivo di Swing la presentazione si limita a richiedere il ridisegno.
+	 *
+	 * @param nanos La durata in nanosecondi.
+	 */
+	public void recordPublish(long nanos) {
+		publishTime.record(nanos);
+	}
+
+	/**
+	 * Registra la presentazione di un frame e l'intervallo dal frame precedente.
+	 * Una volta al secondo aggiorna i frame per secondo e la velocita' di allocazione del thread corrente.
+	 * Va invocato dal thread del ciclo di gioco.
+	 *
+	 * @param now L'istante del frame, in nanosecondi.
+	 */
+	public void recordFrame(long now) {
+
+		if (lastFrame != 0) {
+			frameTime.record(now - lastFrame);
+		}
+		else {
+			secondStart = now;
+		}
+		lastFrame = now;
+		frames++;
+
+		if (now - secondStart >= ONE_SECOND) {
+			framesPerSecond = frames;
+			sampleAllocations(now - secondStart);
+			frames = 0;
+			secondStart = now;
+		}
+	}
+
+	/**
+	 * Dimentica l'ultimo frame registrato, ad esempio dopo una sospensione del ciclo di gioco:
+	 * l'intervallo della sospensione non viene registrato come durata di un frame.
+	 */
+	public void resetFrameClock() {
+		lastFrame = 0;
+		frames = 0;
+		allocatedBytes = -1;
+	}
+
+	/**
+	 * Calcola la velocita' di allocazione del thread corrente, se la piattaforma permette di misurarla.
+	 *
+	 * @param elapsed Il tempo trascorso dal campionamento precedente, in nanosecondi.
+	 */
+	private void sampleAllocations(long elapsed) {
+
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean)) return;
+
+		com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		if (!allocations.isThreadAllocatedMemorySupported() || !allocations.isThreadAllocatedMemoryEnabled()) return;
+
+		long allocated = allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+		if (allocatedBytes >= 0) {
+			allocationRate = (long) ((allocated - allocatedBytes) * ((double) ONE_SECOND / elapsed));
+		}
+		allocatedBytes = allocated;
+	}
+
+	/**
+	 * Registra il numero di entita' presenti nel terreno di gioco.
+	 *
+	 * @param enemies Il numero di nemici.
+	 * @param bombs Il numero di bombe piazzate.
+	 * @param explosions Il numero di esplosioni.
+	 * @param powerUps Il numero di power-up.
+	 */
+	public void recordEntities(int enemies, int bombs, int explosions, int powerUps) {
+		this.enemies = enemies;
+		this.bombs = bombs;
+		this.explosions = explosions;
+		this.powerUps = powerUps;
+	}
+
+	/**
+	 * Invia all'Event Dispatch Thread un evento che misura il ritardo con cui viene eseguito.
+	 * Finche' l'evento precedente non e' stato eseguito non ne vengono inviati altri.
+	 */
+	public void probeEventDispatch() {
+		if (!probePending) {
+			probePending = true;
+			probePosted = System.nanoTime();
+			SwingUtilities.invokeLater(edtProbe);
+		}
+	}
+
+	/**
+	 * Restituisce l'istogramma delle durate dei tick logici.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getTickTime() {
+		return tickTime;
+	}
+
+	/**
+	 * Restituisce l'istogramma delle durate del disegno.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getRenderTime() {
+		return renderTime;
+	}
+
+	/**
+	 * Restituisce l'istogramma delle durate della pubblicazione e presentazione dei frame.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getPublishTime() {
+		return publishTime;
+	}
+
+	/**
+	 * Restituisce l'istogramma degli intervalli tra frame consecutivi.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getFrameTime() {
+		return frameTime;
+	}
+
+	/**
+	 * Restituisce l'istogramma della latenza dell'Event Dispatch Thread.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getEdtLatency() {
+		return edtLatency;
+	}
+
+	/**
+	 * Restituisce l'istogramma delle pause del garbage collector.
+	 *
+	 * @return L'istogramma, in nanosecondi.
+	 */
+	public Histogram getGcPause() {
+		return gcPause;
+	}
+
+	/**
+	 * Converte un valore in nanosecondi in millisecondi.
+	 *
+	 * @param nanos Il valore in nanosecondi.
+	 * @return Il valore in millisecondi.
+	 */
+	private static double toMillis(long nanos) {
+		return nanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public double getTickTimeP50() {
+		return toMillis(tickTime.getPercentile(50));
+	}
+
+	@Override
+	public double getTickTimeP99() {
+		return toMillis(tickTime.getPercentile(99));
+	}
+
+	@Override
+	public double getTickTimeMax() {
+		return toMillis(tickTime.getMax());
+	}
+
+	@Override
+	public double getRenderTimeP50() {
+		return toMillis(renderTime.getPercentile(50));
+	}
+
+	@Override
+	public double getRenderTimeP99() {
+		return toMillis(renderTime.getPercentile(99));
+	}
+
+	@Override
+	public double getRenderTimeMax() {
+		return toMillis(renderTime.getMax());
+	}
+
+	@Override
+	public double getPublishTimeP50() {
+		return toMillis(publishTime.getPercentile(50));
+	}
+
+	@Override
+	public double getPublishTimeP99() {
+		return toMillis(publishTime.getPercentile(99));
+	}
+
+	@Override
+	public double getPublishTimeMax() {
+		return toMillis(publishTime.getMax());
+	}
+
+	@Override
+	public double getFrameTimeP50() {
+		return toMillis(frameTime.getPercentile(50));
+	}
+
+	@Override
+	public double getFrameTimeP99() {
+		return toMillis(frameTime.getPercentile(99));
+	}
+
+	@Override
+	public double getFrameTimeMax() {
+		return toMillis(frameTime.getMax());
+	}
+
+	@Override
+	public double getEdtLatencyP50() {
+		return toMillis(edtLatency.getPercentile(50));
+	}
+
+	@Override
+	public double getEdtLatencyP99() {
+		return toMillis(edtLatency.getPercentile(99));
+	}
+
+	@Override
+	public double getEdtLatencyMax() {
+		return toMillis(edtLatency.getMax());
+	}
+
+	@Override
+	public long getGcPauseCount() {
+		return gcPause.getCount();
+	}
+
+	@Override
+	public double getGcPauseP99() {
+		return toMillis(gcPause.getPercentile(99));
+	}
+
+	@Override
+	public double getGcPauseMax() {
+		return toMillis(gcPause.getMax());
+	}
+
+	@Override
+	public int getFramesPerSecond() {
+		return framesPerSecond;
+	}
+
+	/**
+	 * Restituisce la velocita' di allocazione del thread del ciclo di gioco.
+	 *
+	 * @return I byte allocati al secondo.
+	 */
+	@Override
+	public long getAllocationRate() {
+		return allocationRate;
+	}
+
+	@Override
+	public int getEnemies() {
+		return enemies;
+	}
+
+	@Override
+	public int getBombs() {
+		return bombs;
+	}
+
+	@Override
+	public int getExplosions() {
+		return explosions;
+	}
+
+	@Override
+	public int getPowerUps() {
+		return powerUps;
+	}
+
+	@Override
+	public void reset() {
+		tickTime.reset();
+		renderTime.reset();
+		publishTime.reset();
+		frameTime.reset();
+		edtLatency.reset();
+		gcPause.reset();
+	}
+}
@@ -0,0 +1,48 @@
+package controller;
+
+/**
+ * Interfaccia di gestione JMX delle metriche del gioco raccolte da {@code GameMetrics}.
+ * Le durate sono espresse in millisecondi.
+ *
+ * @author Lorenzo Zanda
+ * @see GameMetrics
+ */
+public interface GameMetricsMBean {
+
+	double getTickTimeP50();
+	double getTickTimeP99();
+	double getTickTimeMax();
+
+	double getRenderTimeP50();
+	double getRenderTimeP99();
+	double getRenderTimeMax();
+
+	double getPublishTimeP50();
+	double getPublishTimeP99();
+	double getPublishTimeMax();
+
+	double getFrameTimeP50();
+	double getFrameTimeP99();
+	double getFrameTimeMax();
+
+	double getEdtLatencyP50();
+	double getEdtLatencyP99();
+	double getEdtLatencyMax();
+
+	long getGcPauseCount();
+	double getGcPauseP99();
+	double getGcPauseMax();
+
+	int getFramesPerSecond();
+	long getAllocationRate();
+
+	int getEnemies();
+	int getBombs();
+	int getExplosions();
+	int getPowerUps();
+
+	/**
+	 * Azzera tutti gli istogrammi.
+	 */
+	void reset();
+}
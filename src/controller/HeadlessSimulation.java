@@ -0,0 +1,183 @@
+package controller;
+
+import java.util.List;
+import model.Bomb;
+import model.Explosion;
+import model.Floor;
+import model.Player;
+import utilities.Constants;
+import utilities.GameRandom;
+
+/**
+ * Classe che permette di simulare un livello di gioco senza alcuna interfaccia grafica.
+ * Genera il terreno tramite un {@code FloorController} in modalita' headless e lo fa avanzare
+ * un tick alla volta, con la stessa sequenza di aggiornamenti del {@code GameController}.
+ *
+ * Tutte le tempistiche (micce, esplosioni, distruzione dei blocchi, animazioni di morte e vittoria)
+ * sono scandite dal modello: la simulazione non dipende dal tempo reale e puo' essere eseguita
+ * alla massima velocita' consentita dalla macchina, ad esempio per bot, test o repliche lato server.
+ * La riproduzione audio viene disabilitata.
+ * Se viene indicato un seme, la mappa e le scelte dei nemici sono riproducibili: lo stesso seme
+ * e la stessa sequenza di comandi per tick producono la stessa partita.
+ *
+ * @author Lorenzo Zanda
+ * @see FloorController
+ * @see Floor
+ */
+public class HeadlessSimulation {
+
+	private FloorController floorController;
+	private Floor floor;
+	private Player player;
+	private int level;
+	private long seed;
+	private boolean seeded;
+
+	/**
+	 * Costruisce una nuova simulazione headless del livello specificato e ne genera la mappa.
+	 *
+	 * @param level Il livello da simulare (da 0 a {@code Constants.MAX_LEVEL - 1}).
+	 */
+	public HeadlessSimulation(int level) {
+
+		AudioManager.getInstance().setMuted(true);
+
+		this.level = level;
+		floorController = new FloorController();
+		floor = floorController.getFloor();
+		player = Player.getInstance();
+		reset();
+	}
+
+	/**
+	 * Costruisce una nuova simulazione headless riproducibile del livello specificato e ne genera la mappa.
+	 *
+	 * @param level Il livello da simulare (da 0 a {@code Constants.MAX_LEVEL - 1}).
+	 * @param seed Il seme della partita.
+	 */
+	public HeadlessSimulation(int level, long seed) {
+		this(level);
+		setSeed(seed);
+	}
+
+	/**
+	 * Imposta il seme della partita e rigenera la mappa.
+	 * Da questo momento ogni {@link #reset()} reimposta i generatori di {@code GameRandom} con lo stesso seme,
+	 * riproducendo la stessa partita.
+	 *
+	 * @param seed Il seme della partita.
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		seeded = true;
+		reset();
+	}
+
+	/**
+	 * Rigenera la mappa del livello, riporta l'orologio della simulazione al tick zero e il giocatore ai valori iniziali.
+	 * Con un seme impostato, la partita successiva ripete esattamente la precedente a parita' di comandi.
+	 */
+	public void reset() {
+		if (seeded) {
+			GameRandom.getInstance().setSeed(seed);
+		}
+		floorController.setLevel(Math.max(0, Math.min(level, Constants.MAX_LEVEL - 1)));
+		floorController.createMap();
+		player.setValues();
+		player.setImmortal();
+	}
+
+	/**
+	 * Fa avanzare la simulazione di un tick.
+	 * Aggiorna il terreno (bombe, esplosioni, blocchi, power-up e nemici), il giocatore e i nemici.
+	 *
+	 * @return La lista delle esplosioni generate in questo tick (valida fino alla chiamata successiva).
+	 */
+	public List<Explosion> tick() {
+
+		List<Explosion> detonated = floor.update();
+		player.updatePosition();
+		floor.updateEnemies();
+		return detonated;
+	}
+
+	/**
+	 * Fa avanzare la simulazione del numero di tick specificato,
+	 * fermandosi in anticipo se la partita termina (game over o livello completato).
+	 *
+	 * @param ticks Il numero massimo di tick da simulare.
+	 * @return Il numero di tick effettivamente simulati.
+	 */
+	public long run(long ticks) {
+
+		long simulated = 0;
+		while (simulated < ticks && !isGameOver() && !isLevelCompleted()) {
+			tick();
+			simulated++;
+		}
+		return simulated;
+	}
+
+	/**
+	 * Piazza una bomba nella cella in cui si trova il giocatore.
+	 *
+	 * @return La bomba piazzata, oppure {@code null} se non e' stato possibile piazzarla.
+	 */
+	public Bomb placeBomb() {
+		return player.placeBomb();
+	}
+
+	/**
+	 * Verifica se il giocatore e' morto e la relativa animazione e' terminata.
+	 *
+	 * @return {@code true} in caso di game over, {@code false} altrimenti.
+	 */
+	public boolean isGameOver() {
+		return !player.isAlive() && player.isAnimationFinished();
+	}
+
+	/**
+	 * Verifica se il giocatore ha completato il livello e la relativa animazione e' terminata.
+	 *
+	 * @return {@code true} se il livello e' completato, {@code false} altrimenti.
+	 */
+	public boolean isLevelCompleted() {
+		return player.isLevelFinished() && player.isAnimationFinished();
+	}
+
+	/**
+	 * Restituisce il tick corrente della simulazione.
+	 *
+	 * @return Il tick corrente.
+	 */
+	public long getCurrentTick() {
+		return floor.getScheduler().getCurrentTick();
+	}
+
+	/**
+	 * Restituisce il terreno simulato.
+	 *
+	 * @return Il terreno simulato.
+	 */
+	public Floor getFloor() {
+		return floor;
+	}
+
+	/**
+	 * Restituisce il giocatore simulato.
+	 *
+	 * @return Il giocatore simulato.
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Restituisce il livello simulato.
+	 *
+	 * @return Il livello simulato.
+	 */
+	public int getLevel() {
+		return level;
+	}
+}
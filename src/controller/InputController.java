@@ -51,6 +51,19 @@ public class InputController implements KeyListener{
 		
 	    int code = e.getKeyCode();
 	    
+	    //Overlay delle metriche
+	    if (code == KeyEvent.VK_F3) {
+	    	controller.toggleMetrics();
+	    	return;
+	    }
+	    
+	    //Pausa -> tutti gli altri tasti vengono ignorati
+	    if (code == KeyEvent.VK_P || code == KeyEvent.VK_ESCAPE) {
+	    	controller.togglePause();
+	    	return;
+	    }
+	    if (controller.isPaused()) return;
+	    
 	    if (code == KeyEvent.VK_SPACE && !pressed) {
 	    	controller.placeBomb(); 
 	    	pressed = true;
@@ -79,6 +92,14 @@ public class InputController implements KeyListener{
 	    }
 	}
 	
+	/**
+	 * Dimentica i tasti premuti, ad esempio quando il gioco viene messo in pausa o la finestra perde il focus.
+	 */
+	public void reset() {
+		keysPressed.clear();
+		pressed = false;
+	}
+	
 	@Override
 	public void keyTyped(KeyEvent e) {
 		// TODO Auto-generated method stub
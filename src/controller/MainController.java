@@ -1,5 +1,7 @@
 package controller;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import view.BomberManFrame;
 
 /**
@@ -31,5 +33,20 @@ public class MainController {
 		
 		frame.getGamePanel().addKeyListener(controller.getInputController());
 		frame.getGamePanel().setController(controller);
+		
+		//Ciclo di vita delle scene
+		sceneManagerController.addScene("Game", controller);
+		frame.addWindowListener(new WindowAdapter() {
+			
+			@Override
+			public void windowIconified(WindowEvent e) {
+				sceneManagerController.suspend();
+			}
+			
+			@Override
+			public void windowDeiconified(WindowEvent e) {
+				sceneManagerController.resume();
+			}
+		});
 	}
 }
@@ -0,0 +1,39 @@
+package controller;
+
+/**
+ * Interfaccia che rappresenta il ciclo di vita di una scena gestita dal {@code SceneManagerController}.
+ *
+ * Una scena viene attivata ({@link #enter()}) quando la sua card diventa visibile e disattivata ({@link #exit()})
+ * quando viene mostrata un'altra scena. Mentre e' attiva, puo' essere sospesa ({@link #suspend()}) e ripresa
+ * ({@link #resume()}), ad esempio quando la finestra viene ridotta a icona.
+ * Tutti i metodi hanno un'implementazione vuota: ogni scena ridefinisce solo quelli di cui ha bisogno.
+ *
+ * @author Lorenzo Zanda
+ * @see SceneManagerController
+ */
+public interface Scene {
+
+	/**
+	 * Invocato quando la scena viene mostrata.
+	 */
+	default void enter() {
+	}
+
+	/**
+	 * Invocato quando la scena viene nascosta perche' ne e' stata mostrata un'altra.
+	 */
+	default void exit() {
+	}
+
+	/**
+	 * Invocato quando la scena attiva viene sospesa, ad esempio perche' la finestra e' stata ridotta a icona.
+	 */
+	default void suspend() {
+	}
+
+	/**
+	 * Invocato quando la scena attiva sospesa viene ripresa.
+	 */
+	default void resume() {
+	}
+}
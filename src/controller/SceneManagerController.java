@@ -1,6 +1,8 @@
 package controller;
 
 import java.awt.CardLayout;
+import java.util.HashMap;
+import java.util.Map;
 import javax.swing.JPanel;
 
 /**
@@ -9,14 +11,21 @@ import javax.swing.JPanel;
  * 
  * Ogni scena  identificata da un nome e pu essere mostrata chiamando il metodo corrispondente.
  * 
+ * Alle scene puo' essere associato un {@code Scene}, che riceve le notifiche del proprio ciclo di vita:
+ * attivazione e disattivazione al cambio di card, sospensione e ripresa della scena attiva.
+ * 
  * @author Lorenzo Zanda
  * @see CardLayout
  * @see JPanel
+ * @see Scene
  */
 public class SceneManagerController {
 	
 	private CardLayout cardLayout;
 	private JPanel cardPanel;
+	private Map<String, Scene> scenes;
+	private String currentScene;
+	private boolean suspended;
 	
 	 /**
      * Costruisce un nuovo {@code SceneManagerController}.
@@ -27,48 +36,116 @@ public class SceneManagerController {
 	public SceneManagerController(CardLayout cardLayout, JPanel cardPanel) {
 		this.cardLayout = cardLayout;
 		this.cardPanel = cardPanel;
+		scenes = new HashMap<String, Scene>();
+		currentScene = "Menu";
+	}
+	
+	/**
+	 * Associa a una scena l'oggetto che ne riceve le notifiche del ciclo di vita.
+	 *
+	 * @param name Il nome della scena.
+	 * @param scene L'oggetto da notificare.
+	 */
+	public void addScene(String name, Scene scene) {
+		scenes.put(name, scene);
+	}
+	
+	/**
+	 * Mostra la scena specificata: la scena corrente viene disattivata e la nuova scena attivata.
+	 * Se la scena e' gia' quella corrente non viene notificato nulla.
+	 *
+	 * @param name Il nome della scena da mostrare.
+	 */
+	public void show(String name) {
+		
+		cardLayout.show(cardPanel, name);
+		if (name.equals(currentScene)) return;
+		
+		Scene previous = scenes.get(currentScene);
+		if (previous != null) {
+			previous.exit();
+		}
+		
+		currentScene = name;
+		suspended = false;
+		
+		Scene next = scenes.get(currentScene);
+		if (next != null) {
+			next.enter();
+		}
+	}
+	
+	/**
+	 * Sospende la scena corrente, ad esempio quando la finestra viene ridotta a icona.
+	 */
+	public void suspend() {
+		Scene scene = scenes.get(currentScene);
+		if (!suspended && scene != null) {
+			suspended = true;
+			scene.suspend();
+		}
+	}
+	
+	/**
+	 * Riprende la scena corrente precedentemente sospesa.
+	 */
+	public void resume() {
+		Scene scene = scenes.get(currentScene);
+		if (suspended && scene != null) {
+			suspended = false;
+			scene.resume();
+		}
+	}
+	
+	/**
+	 * Restituisce il nome della scena attualmente mostrata.
+	 *
+	 * @return Il nome della scena corrente.
+	 */
+	public String getCurrentScene() {
+		return currentScene;
 	}
 	
 	/**
      * Mostra la scena del menu principale.
      */
     public void showMenuPanel() {
-        cardLayout.show(cardPanel, "Menu");
+        show("Menu");
     }
 
     /**
      * Mostra la scena di login.
      */
     public void showLoginPanel() {
-        cardLayout.show(cardPanel, "Login");
+        show("Login");
     }
 
     /**
      * Mostra la scena delle statistiche.
      */
     public void showStatsPanel() {
-        cardLayout.show(cardPanel, "Stats");
+        show("Stats");
     }
 
     /**
      * Mostra la scena del gioco principale.
      */
     public void showGamePanel() {
-        cardLayout.show(cardPanel, "Game");
+        show("Game");
     }
 
     /**
      * Mostra la scena di game over.
      */
     public void showGameOverPanel() {
-        cardLayout.show(cardPanel, "Game Over");
+        show("Game Over");
     }
 
     /**
      * Mostra la scena di vittoria.
      */
     public void showVictoryPanel() {
-        cardLayout.show(cardPanel, "Victory");
+        show("Victory");
     }
 
 }
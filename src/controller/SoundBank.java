@@ -0,0 +1,156 @@
+package controller;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Classe che contiene i campioni audio del gioco, decodificati una sola volta in PCM a 16 bit.
+ * Ogni file audio viene letto e convertito al caricamento del banco, in modo che la riproduzione
+ * non debba piu' accedere alle risorse ne' convertire il formato ad ogni effetto sonoro.
+ *
+ * I campioni sono memorizzati come array di {@code short} interleaved nel formato di uscita del mixer
+ * ({@link #FORMAT}), pronti per essere sommati dall'{@code AudioMixer}.
+ *
+ * @author Lorenzo Zanda
+ * @see AudioManager
+ */
+public class SoundBank {
+
+	/** File audio utilizzati dal gioco, caricati all'avvio. */
+	public static final String[] AUDIO_FILES = {
+		"/audio/main-title.wav",
+		"/audio/world1.wav",
+		"/audio/ending.wav",
+		"/audio/game-over.wav",
+		"/audio/stage-clear.wav",
+		"/audio/bomb-place.wav",
+		"/audio/bomb-explodes.wav",
+		"/audio/bomberman-dies.wav",
+		"/audio/enemy-dies.wav",
+		"/audio/item-get.wav",
+		"/audio/walking1.wav",
+		"/audio/walking2.wav"
+	};
+
+	/** Formato di uscita comune a tutti i campioni: 48 kHz, 16 bit con segno, stereo, little-endian. */
+	public static final AudioFormat FORMAT = new AudioFormat(48000, 16, 2, true, false);
+
+	private Map<String, short[]> samples;
+
+	/**
+	 * Costruisce un nuovo {@code SoundBank} vuoto.
+	 */
+	public SoundBank() {
+		samples = new HashMap<String, short[]>();
+	}
+
+	/**
+	 * Carica tutti i file audio del gioco elencati in {@link #AUDIO_FILES}.
+	 */
+	public void loadAll() {
+		for (String filename : AUDIO_FILES) {
+			load(filename);
+		}
+	}
+
+	/**
+	 * Decodifica un file audio in PCM a 16 bit con segno (little-endian) e lo aggiunge al banco.
+	 * I file mono vengono duplicati su entrambi i canali; i file con una frequenza di campionamento diversa
+	 * da quella di {@link #FORMAT} vengono ricampionati, altrimenti il mixer li riprodurrebbe a velocita' e tono sbagliati.
+	 * Se il file non e' disponibile, non e' supportato o non puo' essere ricampionato, il banco resta invariato.
+	 *
+	 * @param filename Il percorso del file audio da caricare.
+	 * @return {@code true} se il file e' stato caricato, {@code false} altrimenti.
+	 */
+	public boolean load(String filename) {
+
+		if (samples.containsKey(filename)) {
+			return true;
+		}
+
+		URL resource = getClass().getResource(filename);
+		if (resource == null) {
+			System.err.println("File audio non trovato: " + filename);
+			return false;
+		}
+
+		try (AudioInputStream audioIn = AudioSystem.getAudioInputStream(resource)) {
+			AudioFormat targetFormat = new AudioFormat(
+		                AudioFormat.Encoding.PCM_SIGNED,
+		                FORMAT.getSampleRate(),
+		                16,
+		                audioIn.getFormat().getChannels(),
+		                audioIn.getFormat().getChannels() * 2,
+		                FORMAT.getSampleRate(),
+		                false);
+
+			if (!AudioSystem.isConversionSupported(targetFormat, audioIn.getFormat())) {
+				System.err.println("Impossibile convertire il file audio nel formato del mixer: " + filename);
+				return false;
+			}
+
+			try (AudioInputStream pcmSignedStream = AudioSystem.getAudioInputStream(targetFormat, audioIn)) {
+				samples.put(filename, toStereoSamples(pcmSignedStream.readAllBytes(), targetFormat.getChannels()));
+				return true;
+			}
+
+		} catch (IOException e1) {
+			e1.printStackTrace();
+		} catch (UnsupportedAudioFileException e1) {
+			e1.printStackTrace();
+		}
+		return false;
+	}
+
+	/**
+	 * Converte i byte PCM a 16 bit little-endian in campioni stereo interleaved.
+	 *
+	 * @param bytes I byte PCM decodificati.
+	 * @param channels Il numero di canali dei byte PCM.
+	 * @return I campioni stereo.
+	 */
+	private short[] toStereoSamples(byte[] bytes, int channels) {
+
+		int count = bytes.length / 2;
+		short[] stereo = new short[channels == 1 ? count * 2 : count];
+
+		for (int i = 0; i < count; i++) {
+			short sample = (short)((bytes[2*i] & 0xff) | (bytes[2*i + 1] << 8));
+			if (channels == 1) {
+				stereo[2*i] = sample;
+				stereo[2*i + 1] = sample;
+			}
+			else {
+				stereo[i] = sample;
+			}
+		}
+		return stereo;
+	}
+
+	/**
+	 * Verifica se il file audio specificato e' presente nel banco.
+	 *
+	 * @param filename Il percorso del file audio.
+	 * @return {@code true} se il file e' stato caricato, {@code false} altrimenti.
+	 */
+	public boolean contains(String filename) {
+		return samples.containsKey(filename);
+	}
+
+	/**
+	 * Restituisce i campioni stereo interleaved del file audio specificato.
+	 * L'array restituito e' condiviso e non deve essere modificato.
+	 *
+	 * @param filename Il percorso del file audio.
+	 * @return I campioni PCM, oppure {@code null} se il file non e' stato caricato.
+	 */
+	public short[] getSamples(String filename) {
+		return samples.get(filename);
+	}
+}
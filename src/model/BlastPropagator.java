@@ -0,0 +1,148 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe che risolve la propagazione delle esplosioni sul terreno di gioco, incluse le reazioni a catena.
+ *
+ * Ad ogni tick le bombe con la miccia esaurita (o piazzate su una cella in fiamme) vengono inserite in una coda
+ * e visitate in ampiezza: per ogni bomba i quattro raggi dell'esplosione vengono percorsi una sola volta,
+ * raccogliendo le celle coinvolte, colpendo i blocchi distruttibili, distruggendo i power-up
+ * e facendo detonare le altre bombe incontrate, che vengono a loro volta accodate.
+ *
+ * @author Lorenzo Zanda
+ * @see Floor
+ * @see Explosion
+ */
+public class BlastPropagator {
+
+	private Floor floor;
+	private ArrayDeque<Bomb> pending;
+	private List<Explosion> explosions;
+
+	/**
+	 * Costruisce un nuovo {@code BlastPropagator} associato al terreno di gioco specificato.
+	 *
+	 * @param floor Il terreno di gioco su cui propagare le esplosioni.
+	 */
+	public BlastPropagator(Floor floor) {
+		this.floor = floor;
+		pending = new ArrayDeque<Bomb>();
+		explosions = new ArrayList<Explosion>();
+	}
+
+	/**
+	 * Fa detonare le bombe pronte ad esplodere e propaga le esplosioni, risolvendo l'intera reazione a catena.
+	 * Le bombe esplose vengono rimosse dal terreno; le esplosioni generate non vengono aggiunte al terreno,
+	 * in modo che il chiamante possa prima associarvi le rispettive viste.
+	 *
+	 * @return La lista delle esplosioni generate in questo tick (riutilizzata alla chiamata successiva).
+	 */
+	public List<Explosion> propagate() {
+
+		explosions.clear();
+		OccupancyGrid occupancy = floor.getOccupancy();
+
+		//Bombe con miccia esaurita o colpite da un'esplosione ancora attiva
+		for (Bomb bomb : floor.getBombsPlaced()) {
+			if (bomb.isExploded()) {
+				pending.add(bomb);
+			}
+			else if (occupancy.isBurning(bomb.getX(), bomb.getY())) {
+				bomb.explode();
+				pending.add(bomb);
+			}
+		}
+
+		while (!pending.isEmpty()) {
+
+			Bomb bomb = pending.poll();
+			int x = bomb.getX();
+			int y = bomb.getY();
+			int radius = bomb.getExplosionRadius();
+
+			Explosion explosion = new Explosion(bomb);
+			hitFloorTile(explosion, x, y);
+
+			spread(explosion, x, y, radius, -1, 0);	//left
+			spread(explosion, x, y, radius, +1, 0);	//right
+			spread(explosion, x, y, radius, 0, -1);	//up
+			spread(explosion, x, y, radius, 0, +1);	//down
+
+			floor.removeBomb(bomb);
+			explosions.add(explosion);
+		}
+
+		return explosions;
+	}
+
+	/**
+	 * Percorre un raggio dell'esplosione a partire dalla bomba, fermandosi al primo blocco solido.
+	 *
+	 * @param explosion L'esplosione in costruzione.
+	 * @param x La coordinata x della bomba.
+	 * @param y La coordinata y della bomba.
+	 * @param radius Il raggio di esplosione della bomba.
+	 * @param dx La direzione x del raggio.
+	 * @param dy La direzione y del raggio.
+	 */
+	private void spread(Explosion explosion, int x, int y, int radius, int dx, int dy) {
+
+		Tile[][] tiles = floor.getTiles();
+
+		for (int step = 1; step <= radius; step++) {
+
+			int cellX = x + dx * step;
+			int cellY = y + dy * step;
+
+			if (cellX < 0 || cellX >= floor.getWidth() || cellY < 0 || cellY >= floor.getHeight()) {
+				break;
+			}
+
+			Tile tile = tiles[cellY][cellX];
+
+			if (tile.getType() == TileType.UNBREAKABLE) {
+				break;
+			}
+
+			//Blocco distruttibile -> colpito una sola volta, l'esplosione si ferma
+			if (tile.getType() == TileType.BREAKABLE) {
+				if (!tile.isHit()) {
+					tile.setHit(true);
+					floor.addTileExploded(tile);
+				}
+				break;
+			}
+
+			hitFloorTile(explosion, cellX, cellY);
+		}
+	}
+
+	/**
+	 * Aggiunge una cella pavimento all'esplosione, distrugge l'eventuale power-up
+	 * e fa detonare l'eventuale bomba presente, accodandola.
+	 *
+	 * @param explosion L'esplosione in costruzione.
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 */
+	private void hitFloorTile(Explosion explosion, int x, int y) {
+
+		OccupancyGrid occupancy = floor.getOccupancy();
+		explosion.addExplosionTile(x, y);
+
+		PowerUp powerUp = occupancy.getPowerUp(x, y);
+		if (powerUp != null) {
+			powerUp.setCollected(true);
+		}
+
+		//Reazione a catena
+		Bomb bomb = occupancy.getBomb(x, y);
+		if (bomb != null && !bomb.isExploded()) {
+			bomb.explode();
+			pending.add(bomb);
+		}
+	}
+}
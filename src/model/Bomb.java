@@ -2,16 +2,14 @@ package model;
 
 import java.awt.Rectangle;
 import java.util.Observable;
-import java.util.Timer;
-import java.util.TimerTask;
 import utilities.Constants;
 
 /**
  * Classe che rappresenta una bomba piazzata dal giocatore.
  * Estende la classe {@code Observable} per notificare gli osservatori riguardo le sue modifiche.
  *
- * La bomba ha un timer che determina quando esplodera', generando un'esplosione
- * che colpisce le celle vicine in base al raggio di esplosione della bomba.
+ * La bomba ha una miccia, programmata sul {@code TickScheduler} del terreno, che determina quando esplodera',
+ * generando un'esplosione che colpisce le celle vicine in base al raggio di esplosione della bomba.
  *
  * @author Lorenzo Zanda
  * @see Observable
@@ -23,7 +21,9 @@ public class Bomb extends Observable {
 	private boolean exploded;
 	private Rectangle bombCollider;
 	private boolean collisionEnabled = true;
-	private Timer timer = new Timer();
+	private TickScheduler scheduler;
+	private Player owner;
+	private final ScheduledEvent fuse = new ScheduledEvent(this::explode);
 	
 	private final int TILESIZE = Constants.SCALED_TILESIZE;
 	
@@ -42,6 +42,20 @@ public class Bomb extends Observable {
 		bombCollider = new Rectangle(x*TILESIZE, y*TILESIZE, TILESIZE, TILESIZE);
 	}
 	
+	 /**
+     * Costruisce un nuovo oggetto {@code Bomb} piazzato dal giocatore specificato.
+     * Quando la bomba esplode, il giocatore puo' piazzare nuovamente una bomba.
+     *
+     * @param x              La coordinata x della posizione della bomba.
+     * @param y              La coordinata y della posizione della bomba.
+     * @param explosionRadius Il raggio di esplosione della bomba.
+     * @param owner          Il giocatore che ha piazzato la bomba.
+     */
+	public Bomb(int x, int y, int explosionRadius, Player owner) {
+		this(x, y, explosionRadius);
+		this.owner = owner;
+	}
+	
     /**
      * Notifica gli osservatori riguardo alle modifiche della bomba.
      */
@@ -52,24 +66,22 @@ public class Bomb extends Observable {
 	
     /**
      * Programma l'esplosione della bomba dopo un certo periodo di tempo.
+     *
+     * @param scheduler Lo scheduler della simulazione che gestisce la miccia.
      */
-	public void tick() {
-		timer.schedule(new TimerTask() {
-			
-			@Override
-			public void run() {
-				explode();
-				
-			}
-		}, timeToExplode * 800);
+	public void tick(TickScheduler scheduler) {
+		this.scheduler = scheduler;
+		scheduler.schedule(fuse, TickScheduler.toTicks(timeToExplode * 800));
 	}
 	
     /**
-     * Espode la bomba, notifica gli osservatori e interrompe il timer.
+     * Espode la bomba, notifica gli osservatori e annulla la miccia se ancora attiva.
      */
 	public void explode() {
 		
-		timer.cancel();
+		if (scheduler != null) {
+			scheduler.cancel(fuse);
+		}
 	    exploded = true;
 	    modified();
 	}
@@ -114,6 +126,15 @@ public class Bomb extends Observable {
 		return exploded;
 	}
 	
+    /**
+     * Restituisce il tick in cui scadra' la miccia della bomba.
+     *
+     * @return Il tick di scadenza della miccia, oppure {@code Long.MAX_VALUE} se la miccia non e' accesa.
+     */
+	public long getDetonationTick() {
+		return fuse.isScheduled() ? fuse.getTick() : Long.MAX_VALUE;
+	}
+	
     /**
      * Restituisce il raggio di esplosione della bomba.
      *
@@ -123,6 +144,15 @@ public class Bomb extends Observable {
 		return explosionRadius;
 	}
 	
+    /**
+     * Restituisce il giocatore che ha piazzato la bomba.
+     *
+     * @return Il giocatore che ha piazzato la bomba, oppure {@code null}.
+     */
+	public Player getOwner() {
+		return owner;
+	}
+	
     /**
      * Restituisce collider della bomba.
      *
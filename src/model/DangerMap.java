@@ -0,0 +1,222 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Classe che rappresenta la mappa del pericolo del terreno di gioco: per ogni cella memorizza il primo tick
+ * in cui verra' raggiunta dall'esplosione di una bomba piazzata, tenendo conto del raggio di ogni bomba,
+ * dei blocchi che fermano le fiamme e delle reazioni a catena.
+ *
+ * Il tick di detonazione di una bomba e' il minimo tra la scadenza della sua miccia e il tick in cui viene
+ * raggiunta dall'esplosione di un'altra bomba. Quando una bomba viene piazzata i tick possono soltanto diminuire:
+ * la nuova bomba viene propagata alle celle del suo raggio e alle bombe che anticipa, senza ricalcolare le altre.
+ * Quando le bombe esplodono vengono azzerate solo le celle del loro raggio, che le bombe rimaste ricoprono di nuovo.
+ * La mappa viene ricalcolata per intero solo quando cambia la disposizione dei blocchi.
+ *
+ * I nemici (e qualsiasi altra entita') possono cosi' valutare il pericolo di una cella con una sola lettura,
+ * invece di percorrere i raggi di tutte le bombe.
+ *
+ * @author Lorenzo Zanda
+ * @see Floor
+ * @see BlastPropagator
+ */
+public class DangerMap {
+
+	/** Tick delle celle che nessuna bomba raggiungera'. */
+	public static final long SAFE = Long.MAX_VALUE;
+
+	private Floor floor;
+	private int width;
+	private int height;
+	private long[] burnTicks;
+	private long[] bombTicks;
+	private int[] radii;
+	private int[] pending;
+	private boolean dirty = true;
+
+	/**
+	 * Costruisce una nuova mappa del pericolo per il terreno specificato.
+	 *
+	 * @param floor Il terreno di gioco.
+	 */
+	public DangerMap(Floor floor) {
+		this.floor = floor;
+		this.width = floor.getWidth();
+		this.height = floor.getHeight();
+		burnTicks = new long[width * height];
+		bombTicks = new long[width * height];
+		radii = new int[width * height];
+		pending = new int[width * height];
+		Arrays.fill(burnTicks, SAFE);
+		Arrays.fill(bombTicks, SAFE);
+	}
+
+	/**
+	 * Segnala che la disposizione del terreno e' cambiata: la mappa verra' ricalcolata per intero al prossimo {@link #refresh()}.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/**
+	 * Ricalcola la mappa, se necessario, aggiungendo una alla volta tutte le bombe piazzate.
+	 */
+	public void refresh() {
+
+		if (!dirty) return;
+
+		dirty = false;
+		Arrays.fill(burnTicks, SAFE);
+		Arrays.fill(bombTicks, SAFE);
+		List<Bomb> bombs = floor.getBombsPlaced();
+		for (int i = 0; i < bombs.size(); i++) {
+			bombPlaced(bombs.get(i));
+		}
+	}
+
+	/**
+	 * Aggiorna la mappa in seguito al piazzamento di una bomba, la cui miccia deve essere gia' stata programmata.
+	 * La bomba esplode alla scadenza della miccia o, se prima, quando viene raggiunta da un'altra esplosione;
+	 * il suo tick viene propagato alle celle del suo raggio e alle bombe che fa detonare in anticipo.
+	 *
+	 * @param bomb La bomba piazzata.
+	 */
+	public void bombPlaced(Bomb bomb) {
+
+		if (dirty) return;
+
+		int cell = bomb.getY() * width + bomb.getX();
+		long tick = bomb.getDetonationTick();
+		if (bomb.isExploded() || floor.getOccupancy().isBurning(bomb.getX(), bomb.getY())) {
+			//Esplodera' al prossimo tick
+			tick = floor.getScheduler().getCurrentTick() + 1;
+		}
+
+		radii[cell] = bomb.getExplosionRadius();
+		bombTicks[cell] = Math.min(tick, burnTicks[cell]);
+		pending[0] = cell;
+		int head = 0;
+		int tail = 1;
+
+		//Reazione a catena: le bombe anticipate vengono accodate con lo stesso tick
+		while (head < tail) {
+			int next = pending[head++];
+			tail = spread(next % width, next / width, radii[next], bombTicks[next], tail);
+		}
+	}
+
+	/**
+	 * Aggiorna la mappa in seguito alla detonazione delle bombe che hanno generato le esplosioni specificate.
+	 * Le celle raggiunte vengono azzerate e poi ricoperte dalle bombe rimaste, i cui tick non cambiano:
+	 * le bombe esplose avevano un tick minore del loro, quindi non ne anticipavano la detonazione.
+	 *
+	 * @param explosions Le esplosioni generate dalle bombe detonate.
+	 */
+	public void bombsDetonated(List<Explosion> explosions) {
+
+		if (dirty || explosions.isEmpty()) return;
+
+		for (int i = 0; i < explosions.size(); i++) {
+			Bomb bomb = explosions.get(i).getBomb();
+			bombTicks[bomb.getY() * width + bomb.getX()] = SAFE;
+			spread(bomb.getX(), bomb.getY(), bomb.getExplosionRadius(), SAFE, -1);
+		}
+
+		List<Bomb> bombs = floor.getBombsPlaced();
+		for (int i = 0; i < bombs.size(); i++) {
+			Bomb bomb = bombs.get(i);
+			int cell = bomb.getY() * width + bomb.getX();
+			spread(bomb.getX(), bomb.getY(), radii[cell], bombTicks[cell], 0);
+		}
+	}
+
+	/**
+	 * Percorre la cella della bomba e i quattro raggi dell'esplosione, fermandosi ai blocchi solidi come il {@code BlastPropagator}.
+	 * Se {@code tail} e' negativo le celle vengono azzerate; altrimenti il loro tick viene abbassato a {@code tick}
+	 * e le bombe anticipate vengono accodate.
+	 *
+	 * @param x La coordinata x della bomba.
+	 * @param y La coordinata y della bomba.
+	 * @param radius Il raggio di esplosione della bomba.
+	 * @param tick Il tick di detonazione della bomba.
+	 * @param tail Il numero di bombe in coda, oppure -1 per azzerare le celle.
+	 * @return Il numero di bombe in coda dopo la visita.
+	 */
+	private int spread(int x, int y, int radius, long tick, int tail) {
+
+		tail = burn(x, y, tick, tail);
+
+		Tile[][] tiles = floor.getTiles();
+		for (int direction = 0; direction < 4; direction++) {
+
+			int dx = (direction == 0) ? -1 : (direction == 1) ? 1 : 0;
+			int dy = (direction == 2) ? -1 : (direction == 3) ? 1 : 0;
+
+			for (int step = 1; step <= radius; step++) {
+
+				int cellX = x + dx * step;
+				int cellY = y + dy * step;
+
+				if (cellX < 0 || cellX >= width || cellY < 0 || cellY >= height || tiles[cellY][cellX].getType() != TileType.FLOOR) {
+					break;
+				}
+				tail = burn(cellX, cellY, tick, tail);
+			}
+		}
+		return tail;
+	}
+
+	/**
+	 * Abbassa (o azzera) il tick della cella specificata. Se nella cella c'e' una bomba che esplodeva piu' tardi,
+	 * ne anticipa la detonazione e la accoda.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @param tick Il tick in cui la cella viene raggiunta.
+	 * @param tail Il numero di bombe in coda, oppure -1 per azzerare la cella.
+	 * @return Il numero di bombe in coda.
+	 */
+	private int burn(int x, int y, long tick, int tail) {
+
+		int cell = y * width + x;
+
+		if (tail < 0) {
+			burnTicks[cell] = SAFE;
+		}
+		else if (tick < burnTicks[cell]) {
+			burnTicks[cell] = tick;
+			if (bombTicks[cell] != SAFE && tick < bombTicks[cell]) {
+				bombTicks[cell] = tick;
+				pending[tail++] = cell;
+			}
+		}
+		return tail;
+	}
+
+	/**
+	 * Restituisce il primo tick in cui la cella specificata verra' raggiunta da un'esplosione.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return Il tick, oppure {@link #SAFE} se nessuna bomba raggiungera' la cella.
+	 */
+	public long getBurnTick(int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height) return SAFE;
+		return burnTicks[y * width + x];
+	}
+
+	/**
+	 * Verifica se la cella specificata sta bruciando o verra' raggiunta da un'esplosione entro il numero di tick indicato.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @param tick Il tick corrente della simulazione.
+	 * @param horizon Il numero di tick entro cui l'esplosione e' considerata imminente.
+	 * @return {@code true} se la cella e' pericolosa, {@code false} altrimenti.
+	 */
+	public boolean isThreatened(int x, int y, long tick, long horizon) {
+		if (x < 0 || x >= width || y < 0 || y >= height) return false;
+		return burnTicks[y * width + x] - tick <= horizon || floor.getOccupancy().isBurning(x, y);
+	}
+}
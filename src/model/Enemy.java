@@ -1,77 +1,64 @@
 package model;
 
 import java.awt.Rectangle;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Observable;
-import java.util.Random;
-import utilities.Constants;
+import java.util.Observer;
 
 /**
  * Classe che rappresenta un nemico nel gioco. 
  * Gestisce la posizione, lo stato di animazione, la logica di movimento,
  * i punti vita e l'interazione con gli elementi del gioco.
  * 
+ * Lo stato del nemico e' memorizzato negli array dell'{@code EnemyStore} del terreno, che aggiorna tutti i nemici
+ * in un unico ciclo: un {@code Enemy} e' il riferimento osservabile al proprio indice nell'archivio.
+ * Il tipo di nemico ("Puropen", "Denkyun") e' un codice dell'archivio, che ne determina i parametri.
+ * 
  * Estende la classe {@code Observable} per notificare gli osservatori riguardo le sue modifiche.
  *
  * @author Lorenzo Zanda
  * @see Observable
+ * @see EnemyStore
  */
-public abstract class Enemy extends Observable{
+public class Enemy extends Observable{
 	
-	protected long currentTime;
-	protected long collisionCooldown;
-	protected final int COLLISION_COOLDOWN = 2000;
+	private EnemyStore store;
 	
-	protected int x, y;
-	protected int speed;
-	protected int scorePoints;
-	protected int hp;
-	protected boolean moving;
-	protected Move direction;
-	protected AnimationState animationState;
-	protected boolean alive;
-	protected boolean damaged;
-	protected Rectangle collider;
-	protected Floor floor;
+	/** Indice del nemico nell'archivio, aggiornato quando i nemici precedenti vengono rimossi. */
+	int index;
 	
-	protected final int CHANGE_DIRECTION = 1;
+	/** Indica se il nemico ha almeno un osservatore: senza osservatori (simulazione headless) le notifiche vengono saltate. */
+	private boolean observed;
 
     /**
-     * Costruttore utilizzato dalle sottoclassi in quanto la classe {@code Enemy} e' {@code abstract}.
+     * Costruisce il riferimento a un nemico dell'archivio. I nemici vengono creati dal terreno con {@link Floor#spawnEnemy(int, int, int)}.
      *
-     * @param x      La coordinata x iniziale.
-     * @param y      La coordinata y iniziale.
-     * @param speed  La velocit di movimento.
-     * @param scorePoints I punti guadagnati quando viene sconfitto.
-     * @param hp     I punti vita.
-     * @param floor  Il terreno di gioco.
+     * @param store L'archivio dei nemici.
+     * @param index L'indice del nemico nell'archivio.
      */
-	public Enemy(int x, int y, int speed, int scorePoints, int hp, Floor floor) {
-		
-		this.x = x;
-		this.y = y;
-		this.speed = speed;
-		this.scorePoints = scorePoints;
-		this.hp = hp;
-		this.floor = floor;
-		
-		//Enemy Statistics
-		moving = true;
-		alive = true;
-		animationState = AnimationState.WALKING;
-		collider = new Rectangle(x, y, Constants.SCALED_TILESIZE-12, Constants.SCALED_TILESIZE-15);
-		
-		randomDirection();
+	Enemy(EnemyStore store, int index) {
+		this.store = store;
+		this.index = index;
 	}
 	
     /**
      * Notifica gli osservatori riguardo alle modifiche del nemico.
      */
 	public void modified() {
-		setChanged();
-		notifyObservers();
+		if (observed) {
+			setChanged();
+			notifyObservers();
+		}
+	}
+	
+    /**
+     * Aggiunge un osservatore del nemico.
+     *
+     * @param o L'osservatore da aggiungere.
+     */
+	@Override
+	public synchronized void addObserver(Observer o) {
+		super.addObserver(o);
+		observed = true;
 	}
 	
     /**
@@ -79,89 +66,31 @@ public abstract class Enemy extends Observable{
      * Se i punti vita raggiungono zero, il nemico muore.
      */
 	public void damage() {
-		hp--;
-		damaged = true;
-		if (hp <= 0) {
-			die();
-		}
+		store.damage(index, store.currentTick());
 	}
 	
 	/**
      * Gestisce la morte del nemico. 
-     * Imposta lo stato dell'animazione a DYING
+     * Imposta lo stato dell'animazione a DYING e ne programma la conclusione.
      */
 	public void die() {
-		if (alive) {
-			stop();
-			animationState = AnimationState.DYING;
-			alive = false;
-			modified();
-		}
+		store.die(index, store.currentTick());
 	}
 	
     /**
-     * Aggiorna la posizione del nemico in base alla direzione di movimento e rileva collisioni.
-     */
-	public void updatePosition() {
-		
-		int dx = direction.getX();
-		int dy = direction.getY();
-		
-		currentTime = System.currentTimeMillis();
-		if (currentTime - collisionCooldown >= COLLISION_COOLDOWN) {
-			damaged = false;
-			if (floor.collidesWithExplosions(collider)) {
-				damage();
-				collisionCooldown = currentTime;
-			}
-		}
-		
-		if (moving) {
-	        Rectangle nextCollisionBox = new Rectangle(collider);
-	        nextCollisionBox.translate(dx * speed, dy * speed);
-	        //Se non vengono rilevate collisioni con Blocchi o Bombe -> Movimento
-	        
-	        boolean collide = floor.collidesWithEnemies(nextCollisionBox, this)
-	    	        	  ||  floor.enemyCollidesWithBombs(nextCollisionBox)
-	    	        	  ||  floor.collidesWithBlocks(nextCollisionBox);
-	        
-	        if (collide || new Random().nextInt(301) <= CHANGE_DIRECTION) {
-	        	randomDirection();
-	        }
-	        
-	        else {
-	            x += dx * speed;
-	            y += dy * speed;
-	        }
-	        
-	        collider.setLocation(x+7, y);
-	        
-			setChanged();
-			notifyObservers(currentTime);
-		}	
-	}
-	
-    /**
-     * Cambia casualmente la direzione di movimento del nemico.
-     * La nuova direzione e' diversa da quella precedentemente seguita dal nemico.
+     * Interrompe il movimento del nemico.
      */
-	public void randomDirection() {
-		
-		List<Move> moves = new ArrayList<Move>(Arrays.asList(Move.values()));
-		
-		if (direction != null) {
-			moves.remove(direction);
-		}
-		
-		int randomIndex = new Random().nextInt(moves.size());
-		direction = moves.get(randomIndex);	
+	public void stop() {
+		store.stop(index);
 	}
-	
+
     /**
-     * Interrompe il movimento del nemico.
+     * Restituisce il codice del tipo di nemico.
+     *
+     * @return Il codice del tipo ({@code EnemyStore.PUROPEN}, {@code EnemyStore.DENKYUN} o {@code EnemyStore.CHASER}).
      */
-	public void stop() {
-		moving = false;
+	public int getType() {
+		return store.getType(index);
 	}
 
     /**
@@ -170,7 +99,7 @@ public abstract class Enemy extends Observable{
      * @return La coordinata x del nemico.
      */
 	public int getX() {
-		return x;
+		return store.getX(index);
 	}
 	
     /**
@@ -179,7 +108,7 @@ public abstract class Enemy extends Observable{
      * @param x La nuova coordinata x del nemico.
      */
 	public void setX(int x) {
-		this.x = x;
+		store.setX(index, x);
 	}
 
     /**
@@ -188,7 +117,7 @@ public abstract class Enemy extends Observable{
      * @return La coordinata y del nemico.
      */
 	public int getY() {
-		return y;
+		return store.getY(index);
 	}
 	
     /**
@@ -197,7 +126,16 @@ public abstract class Enemy extends Observable{
      * @param y La nuova coordinata y del nemico.
      */
 	public void setY(int y) {
-		this.y = y;
+		store.setY(index, y);
+	}
+
+	/**
+	 * Restituisce il tempo della simulazione all'ultimo aggiornamento del nemico.
+	 * 
+	 * @return Il tempo corrente della simulazione, in millisecondi.
+	 */
+	public long getCurrentTime() {
+		return store.getCurrentTime();
 	}
 
 	/**
@@ -206,7 +144,7 @@ public abstract class Enemy extends Observable{
 	 * @return velocita' di movimento del nemico.
 	 */
 	public double getSpeed() {
-		return speed;
+		return store.getSpeed(index);
 	}
 
 	/**
@@ -215,7 +153,7 @@ public abstract class Enemy extends Observable{
 	 * @return numero di punti.
 	 */
 	public int getScorePoints() {
-		return scorePoints;
+		return store.getScorePoints(index);
 	}
 
     /**
@@ -224,7 +162,7 @@ public abstract class Enemy extends Observable{
      * @return I punti vita del nemico.
      */
 	public int getHp() {
-		return hp;
+		return store.getHp(index);
 	}
 
 	/**
@@ -233,16 +171,16 @@ public abstract class Enemy extends Observable{
 	 * @return direzione corrente del nemico.
 	 */
 	public Move getDirection() {
-		return direction;
+		return store.getDirection(index);
 	}
 	
     /**
-     * Restituisce collider del nemico.
+     * Restituisce una copia del collider del nemico.
      *
      * @return Il collider del nemico.
      */
 	public Rectangle getCollider() {
-		return collider;
+		return new Rectangle(store.getColliderX(index), store.getColliderY(index), store.getColliderWidth(), store.getColliderHeight());
 	}
 	
     /**
@@ -251,7 +189,7 @@ public abstract class Enemy extends Observable{
      * @return Lo stato di animazione del nemico.
      */
 	public AnimationState getAnimationState() {
-		return animationState;
+		return store.isAlive(index) ? AnimationState.WALKING : AnimationState.DYING;
 	}
 	
     /**
@@ -260,7 +198,16 @@ public abstract class Enemy extends Observable{
      * @return {@code true} se il nemico e' stato danneggiato, {@code false} altrimenti.
      */
 	public boolean isDamaged() {
-		return damaged;
+		return store.isDamaged(index);
+	}
+
+    /**
+     * Restituisce lo stato dell'animazione di morte del nemico, scandita dalla simulazione.
+     *
+     * @return {@code true} se l'animazione e' terminata, {@code false} altrimenti.
+     */
+	public boolean isAnimationFinished() {
+		return store.isAnimationFinished(index);
 	}
 
     /**
@@ -269,34 +216,16 @@ public abstract class Enemy extends Observable{
      * @return {@code true} se il nemico e' vivo, {@code false} altrimenti.
      */
 	public boolean isAlive() {
-		return alive;
+		return store.isAlive(index);
 	}
 	
     /**
      * Restituisce una rappresentazione testuale del nemico.
      *
-     * @return Una stringa contenente le coordinate x e y del nemico.
+     * @return Una stringa contenente il tipo e le coordinate x e y del nemico.
      */
 	@Override
 	public String toString() {
-		return x + " " + y;
-	}
-	
-    /**
-     * Verifica se due nemici sono uguali confrontando le loro coordinate.
-     *
-     * @param obj L'oggetto da confrontare con questo nemico.
-     * @return {@code true} se i nemici sono uguali, {@code false} altrimenti.
-     */
-	@Override
-	public boolean equals(Object obj) {
-	    if (this == obj) {
-	        return true;
-	    }
-	    if (obj == null || getClass() != obj.getClass()) {
-	        return false;
-	    }
-	    Enemy otherEnemy = (Enemy) obj;
-	    return x == otherEnemy.getX() && y == otherEnemy.getY();
+		return store.getName(index) + ": " + getX() + " " + getY();
 	}
 }
@@ -0,0 +1,654 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import utilities.Constants;
+
+/**
+ * Classe che memorizza lo stato di tutti i nemici di un terreno di gioco in array paralleli di tipi primitivi
+ * (struct-of-arrays): posizione, tipo, direzione, punti vita, stato e scadenze dei cooldown.
+ *
+ * Il tipo del nemico e' un codice ({@link #PUROPEN}, {@link #DENKYUN}, {@link #CHASER}) che indicizza le tabelle dei parametri
+ * (velocita', punteggio, punti vita iniziali, inseguimento del giocatore). Tutti i nemici vengono aggiornati da un unico ciclo, {@link #updateAll(long)},
+ * che scorre gli array in ordine senza invocazioni virtuali ne' allocazioni; i cooldown sono scadenze in tick
+ * confrontate ad ogni aggiornamento, invece di eventi programmati sul {@code TickScheduler}.
+ *
+ * Ogni nemico e' rappresentato all'esterno da un {@code Enemy}, un riferimento osservabile al proprio indice:
+ * l'ordine degli indici coincide con quello della lista dei nemici del {@code Floor}.
+ *
+ * I nemici che inseguono il giocatore non cercano un percorso: ogni volta che sono allineati a una cella
+ * si dirigono verso la cella adiacente piu' vicina al giocatore secondo la {@code FlowField} del terreno,
+ * che viene ricalcolata al piu' una volta per tick. Cambiano direzione a caso solo quando sono bloccati
+ * ed evitano di entrare nelle celle che la {@code DangerMap} indica in fiamme o prossime all'esplosione.
+ *
+ * Se e' associato un {@code ForkJoinPool}, l'aggiornamento avviene in due fasi. Nella prima le intenzioni dei nemici
+ * (danno da esplosione, collisione con blocchi e bombe, cambio di direzione) vengono calcolate in parallelo su
+ * porzioni contigue degli array, leggendo soltanto lo stato del terreno, che in questa fase non viene modificato.
+ * Nella seconda fase le intenzioni vengono applicate in serie, in ordine di indice, risolvendo le collisioni tra nemici.
+ * In entrambi i casi le scelte casuali sono derivate dal seme del terreno, dal tick e dall'indice del nemico,
+ * invece che da un generatore condiviso: il risultato non dipende dal numero di thread ed e' riproducibile a parita' di seme.
+ *
+ * @author Lorenzo Zanda
+ * @see Enemy
+ * @see Floor
+ */
+public class EnemyStore {
+
+	/** Codice del nemico "Puropen". */
+	public static final int PUROPEN = 0;
+	/** Codice del nemico "Denkyun". */
+	public static final int DENKYUN = 1;
+	/** Codice del nemico "Chaser", che insegue il giocatore. */
+	public static final int CHASER = 2;
+
+	//Tabelle dei parametri, indicizzate per codice del tipo
+	private static final String[] NAMES = {"Puropen", "Denkyun", "Chaser"};
+	private static final int[] SPEED = {2, 2, 2};
+	private static final int[] SCORE_POINTS = {100, 400, 800};
+	private static final int[] HP = {1, 2, 1};
+	private static final boolean[] CHASES = {false, false, true};
+
+	/** Spostamento orizzontale del collider rispetto alla posizione del nemico. */
+	private static final int COLLIDER_OFFSET = 7;
+	private static final int COLLIDER_WIDTH = Constants.SCALED_TILESIZE - 12;
+	private static final int COLLIDER_HEIGHT = Constants.SCALED_TILESIZE - 15;
+
+	private static final long COLLISION_COOLDOWN = Math.max(1, TickScheduler.toTicks(2000));
+	private static final long DYING_DURATION = Math.max(1, TickScheduler.toTicks(600));
+	private static final int CHANGE_DIRECTION = 1;
+	/** Tick entro cui un'esplosione e' considerata imminente: il tempo per attraversare due celle alla velocita' dei nemici. */
+	private static final long DANGER_HORIZON = 2 * Constants.SCALED_TILESIZE / SPEED[CHASER];
+
+	private static final Move[] MOVES = Move.values();
+
+	/** Numero minimo di nemici assegnati a un singolo task del calcolo parallelo. */
+	private static final int PARALLEL_GRAIN = 256;
+
+	/** Pool condiviso dai terreni per il calcolo parallelo, creato al primo utilizzo se {@code Constants.ENEMY_THREADS > 0}. */
+	private static ForkJoinPool sharedPool;
+
+	private Floor floor;
+	private int size;
+	private long currentTime;
+
+	private Enemy[] handles;
+	private byte[] types;
+	private int[] xs;
+	private int[] ys;
+	private byte[] directions;
+	private int[] hps;
+	private boolean[] moving;
+	private boolean[] blocked;
+	private boolean[] alive;
+	private boolean[] damaged;
+	private boolean[] animationFinished;
+	private long[] damagedUntil;
+	private long[] dyingUntil;
+
+	//Intenzioni calcolate dalla fase parallela
+	private ForkJoinPool pool;
+	private boolean[] intentHit;
+	private boolean[] intentBlocked;
+	private boolean[] intentTurn;
+	private byte[] intentDirections;
+
+	/**
+	 * Costruisce un nuovo {@code EnemyStore} vuoto associato al terreno specificato.
+	 * Se {@code Constants.ENEMY_THREADS} e' positivo, l'aggiornamento usa il pool condiviso.
+	 *
+	 * @param floor Il terreno di gioco.
+	 */
+	public EnemyStore(Floor floor) {
+		this.floor = floor;
+		allocate(16);
+		if (Constants.ENEMY_THREADS > 0) {
+			pool = getSharedPool();
+		}
+	}
+
+	/**
+	 * Restituisce il pool condiviso per il calcolo parallelo delle intenzioni, creandolo al primo utilizzo.
+	 *
+	 * @return Il pool condiviso.
+	 */
+	private static synchronized ForkJoinPool getSharedPool() {
+		if (sharedPool == null) {
+			sharedPool = new ForkJoinPool(Constants.ENEMY_THREADS);
+		}
+		return sharedPool;
+	}
+
+	/**
+	 * Aggiunge un nemico in coda all'archivio, con i parametri iniziali del suo tipo e una direzione casuale.
+	 *
+	 * @param type Il codice del tipo di nemico.
+	 * @param x La coordinata x iniziale.
+	 * @param y La coordinata y iniziale.
+	 * @return Il riferimento al nemico aggiunto.
+	 */
+	Enemy add(int type, int x, int y) {
+
+		if (size == xs.length) {
+			allocate(size * 2);
+		}
+
+		int i = size++;
+		types[i] = (byte) type;
+		xs[i] = x;
+		ys[i] = y;
+		directions[i] = (byte) Move.random(floor.getRandom(), null).ordinal();
+		hps[i] = HP[type];
+		moving[i] = true;
+		blocked[i] = false;
+		alive[i] = true;
+		damaged[i] = false;
+		animationFinished[i] = false;
+		damagedUntil[i] = 0;
+		dyingUntil[i] = 0;
+		handles[i] = new Enemy(this, i);
+		return handles[i];
+	}
+
+	/**
+	 * Rimuove il nemico con l'indice specificato, spostando i successivi per mantenerne l'ordine.
+	 *
+	 * @param index L'indice del nemico.
+	 */
+	void remove(int index) {
+
+		int moved = size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(handles, index + 1, handles, index, moved);
+			System.arraycopy(types, index + 1, types, index, moved);
+			System.arraycopy(xs, index + 1, xs, index, moved);
+			System.arraycopy(ys, index + 1, ys, index, moved);
+			System.arraycopy(directions, index + 1, directions, index, moved);
+			System.arraycopy(hps, index + 1, hps, index, moved);
+			System.arraycopy(this.moving, index + 1, this.moving, index, moved);
+			System.arraycopy(blocked, index + 1, blocked, index, moved);
+			System.arraycopy(alive, index + 1, alive, index, moved);
+			System.arraycopy(damaged, index + 1, damaged, index, moved);
+			System.arraycopy(animationFinished, index + 1, animationFinished, index, moved);
+			System.arraycopy(damagedUntil, index + 1, damagedUntil, index, moved);
+			System.arraycopy(dyingUntil, index + 1, dyingUntil, index, moved);
+			for (int i = index; i < size - 1; i++) {
+				handles[i].index = i;
+			}
+		}
+		handles[--size] = null;
+	}
+
+	/**
+	 * Rimuove tutti i nemici.
+	 */
+	void clear() {
+		Arrays.fill(handles, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Fa avanzare di un tick tutti i nemici: scadenza dei cooldown, danni delle esplosioni,
+	 * movimento con rilevamento delle collisioni e cambi casuali di direzione.
+	 * Gli osservatori dei nemici che si sono mossi vengono notificati.
+	 *
+	 * @param tick Il tick corrente della simulazione.
+	 */
+	public void updateAll(long tick) {
+
+		currentTime = tick * 1000 / Constants.FPS;
+		floor.getFlowField().refresh();
+		floor.getDangerMap().refresh();
+
+		if (pool != null) {
+			updateParallel(tick);
+			return;
+		}
+
+		long seed = floor.getSeed();
+
+		for (int i = 0; i < size; i++) {
+
+			if (damaged[i] && tick >= damagedUntil[i]) {
+				damaged[i] = false;
+			}
+
+			if (!alive[i]) {
+				if (tick >= dyingUntil[i]) {
+					animationFinished[i] = true;
+				}
+				continue;
+			}
+
+			int colliderX = xs[i] + COLLIDER_OFFSET;
+			int colliderY = ys[i];
+
+			if (!damaged[i] && floor.collidesWithExplosions(colliderX, colliderY, COLLIDER_WIDTH, COLLIDER_HEIGHT)) {
+				damage(i, tick);
+			}
+
+			if (moving[i]) {
+				Move direction = steer(i, tick);
+				directions[i] = (byte) direction.ordinal();
+				int dx = direction.getX() * SPEED[types[i]];
+				int dy = direction.getY() * SPEED[types[i]];
+
+				//Se non vengono rilevate collisioni con Nemici, Bombe o Blocchi -> Movimento
+				boolean collide = floor.collidesWithEnemies(colliderX + dx, colliderY + dy, COLLIDER_WIDTH, COLLIDER_HEIGHT, i)
+						       || floor.enemyCollidesWithBombs(colliderX + dx, colliderY + dy, COLLIDER_WIDTH, COLLIDER_HEIGHT)
+						       || floor.collidesWithBlocks(colliderX + dx, colliderY + dy, COLLIDER_WIDTH, COLLIDER_HEIGHT);
+
+				blocked[i] = collide;
+				long random = draw(seed, tick, i);
+				if (collide || (!CHASES[types[i]] && Long.remainderUnsigned(random, 301) <= CHANGE_DIRECTION)) {
+					directions[i] = (byte) direction.turn((int) Long.remainderUnsigned(random >>> 32, MOVES.length - 1)).ordinal();
+				}
+				else {
+					xs[i] += dx;
+					ys[i] += dy;
+				}
+
+				floor.moveEnemy(handles[i]);
+				handles[i].modified();
+			}
+		}
+	}
+
+	/**
+	 * Aggiorna i nemici in due fasi: calcolo parallelo delle intenzioni e applicazione seriale in ordine di indice.
+	 *
+	 * @param tick Il tick corrente della simulazione.
+	 */
+	private void updateParallel(long tick) {
+
+		if (intentHit == null || intentHit.length < xs.length) {
+			intentHit = new boolean[xs.length];
+			intentBlocked = new boolean[xs.length];
+			intentTurn = new boolean[xs.length];
+			intentDirections = new byte[xs.length];
+		}
+
+		if (size > PARALLEL_GRAIN) {
+			pool.invoke(new IntentTask(0, size, tick));
+		}
+		else {
+			computeIntents(0, size, tick);
+		}
+
+		for (int i = 0; i < size; i++) {
+
+			if (damaged[i] && tick >= damagedUntil[i]) {
+				damaged[i] = false;
+			}
+
+			if (!alive[i]) {
+				if (tick >= dyingUntil[i]) {
+					animationFinished[i] = true;
+				}
+				continue;
+			}
+
+			if (intentHit[i]) {
+				damage(i, tick);
+			}
+
+			if (moving[i]) {
+				Move direction = steer(i, tick);
+				directions[i] = (byte) direction.ordinal();
+				int dx = direction.getX() * SPEED[types[i]];
+				int dy = direction.getY() * SPEED[types[i]];
+				int colliderX = xs[i] + COLLIDER_OFFSET;
+				int colliderY = ys[i];
+
+				//Le collisioni tra nemici dipendono dalle posizioni gia' applicate -> risolte qui, in ordine di indice
+				boolean collide = intentBlocked[i]
+						       || floor.collidesWithEnemies(colliderX + dx, colliderY + dy, COLLIDER_WIDTH, COLLIDER_HEIGHT, i);
+
+				blocked[i] = collide;
+				if (collide || intentTurn[i]) {
+					directions[i] = intentDirections[i];
+				}
+				else {
+					xs[i] += dx;
+					ys[i] += dy;
+				}
+
+				floor.moveEnemy(handles[i]);
+				handles[i].modified();
+			}
+		}
+	}
+
+	/**
+	 * Calcola le intenzioni dei nemici compresi nell'intervallo specificato, senza modificare lo stato del terreno
+	 * ne' quello dei nemici: puo' quindi essere eseguito in parallelo su intervalli disgiunti.
+	 *
+	 * @param from L'indice del primo nemico (incluso).
+	 * @param to L'indice dell'ultimo nemico (escluso).
+	 * @param tick Il tick corrente della simulazione.
+	 */
+	private void computeIntents(int from, int to, long tick) {
+
+		long seed = floor.getSeed();
+
+		for (int i = from; i < to; i++) {
+
+			boolean cooldown = damaged[i] && tick < damagedUntil[i];
+			int colliderX = xs[i] + COLLIDER_OFFSET;
+			int colliderY = ys[i];
+
+			intentHit[i] = alive[i] && !cooldown && floor.collidesWithExplosions(colliderX, colliderY, COLLIDER_WIDTH, COLLIDER_HEIGHT);
+
+			if (alive[i] && moving[i]) {
+				Move direction = steer(i, tick);
+				int nextX = colliderX + direction.getX() * SPEED[types[i]];
+				int nextY = colliderY + direction.getY() * SPEED[types[i]];
+
+				intentBlocked[i] = floor.enemyCollidesWithBombs(nextX, nextY, COLLIDER_WIDTH, COLLIDER_HEIGHT)
+						        || floor.collidesWithBlocks(nextX, nextY, COLLIDER_WIDTH, COLLIDER_HEIGHT);
+
+				long random = draw(seed, tick, i);
+				intentTurn[i] = !CHASES[types[i]] && Long.remainderUnsigned(random, 301) <= CHANGE_DIRECTION;
+				intentDirections[i] = (byte) direction.turn((int) Long.remainderUnsigned(random >>> 32, MOVES.length - 1)).ordinal();
+			}
+		}
+	}
+
+	/**
+	 * Restituisce la direzione che il nemico deve seguire in questo tick, senza modificarne lo stato.
+	 * Un nemico che insegue il giocatore, quando e' allineato a una cella, prende la direzione indicata dalla mappa
+	 * delle distanze, a meno che nel tick precedente sia rimasto bloccato: in quel caso si allontana nella direzione
+	 * scelta a caso e torna a seguire la mappa alla cella successiva. Se la cella indicata e' minacciata da un'esplosione,
+	 * prosegue nella direzione corrente o, se anche questa e' minacciata, nella prima direzione libera e sicura.
+	 * Negli altri casi (o se il giocatore non e' raggiungibile) il nemico mantiene la direzione corrente.
+	 *
+	 * @param i L'indice del nemico.
+	 * @param tick Il tick corrente della simulazione.
+	 * @return La direzione da seguire.
+	 */
+	private Move steer(int i, long tick) {
+
+		int tileSize = Constants.SCALED_TILESIZE;
+		Move current = MOVES[directions[i]];
+
+		if (CHASES[types[i]] && !blocked[i] && xs[i] % tileSize == 0 && ys[i] % tileSize == 0) {
+			int column = xs[i] / tileSize;
+			int row = ys[i] / tileSize;
+
+			Move move = floor.getFlowField().nextMove(column, row);
+			if (move != null && isSafe(column, row, move, tick)) {
+				return move;
+			}
+			if (isSafe(column, row, current, tick)) {
+				return current;
+			}
+			for (int m = 0; m < MOVES.length; m++) {
+				if (isSafe(column, row, MOVES[m], tick)) {
+					return MOVES[m];
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Verifica se la cella adiacente nella direzione specificata e' un pavimento non minacciato da un'esplosione imminente.
+	 *
+	 * @param column La colonna della cella di partenza.
+	 * @param row La riga della cella di partenza.
+	 * @param move La direzione da verificare.
+	 * @param tick Il tick corrente della simulazione.
+	 * @return {@code true} se la cella adiacente e' sicura, {@code false} altrimenti.
+	 */
+	private boolean isSafe(int column, int row, Move move, long tick) {
+		int x = column + move.getX();
+		int y = row + move.getY();
+		return floor.checkFloor(x, y) && !floor.getDangerMap().isThreatened(x, y, tick, DANGER_HORIZON);
+	}
+
+	/**
+	 * Restituisce il valore casuale del nemico specificato per il tick specificato, derivato dal seme del terreno.
+	 * Il valore dipende solo dal seme, dal tick e dall'indice: l'aggiornamento seriale e quello parallelo
+	 * estraggono quindi gli stessi valori, qualunque sia il numero di thread.
+	 * I 32 bit bassi decidono il cambio di direzione, quelli alti la nuova direzione.
+	 *
+	 * @param seed Il seme del terreno.
+	 * @param tick Il tick corrente della simulazione.
+	 * @param i L'indice del nemico.
+	 * @return Il valore pseudo-casuale.
+	 */
+	private static long draw(long seed, long tick, int i) {
+		return mix(seed + tick * 0x9E3779B97F4A7C15L + i);
+	}
+
+	/**
+	 * Funzione di mescolamento di SplitMix64: deriva un valore pseudo-casuale ben distribuito da un valore qualsiasi.
+	 *
+	 * @param value Il valore da mescolare.
+	 * @return Il valore mescolato.
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * Task che calcola le intenzioni di un intervallo di nemici, suddividendolo finche' supera {@code PARALLEL_GRAIN}.
+	 */
+	private class IntentTask extends RecursiveAction {
+
+		private static final long serialVersionUID = -2381934807123447311L;
+
+		private final int from;
+		private final int to;
+		private final long tick;
+
+		IntentTask(int from, int to, long tick) {
+			this.from = from;
+			this.to = to;
+			this.tick = tick;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_GRAIN) {
+				computeIntents(from, to, tick);
+			}
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new IntentTask(from, middle, tick), new IntentTask(middle, to, tick));
+			}
+		}
+	}
+
+	/**
+	 * Associa al terreno il pool su cui calcolare in parallelo le intenzioni dei nemici.
+	 *
+	 * @param pool Il pool da utilizzare, oppure {@code null} per l'aggiornamento seriale.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Verifica se il collider del nemico specificato interseca il rettangolo indicato.
+	 * Il nemico che esegue il controllo ({@code invoking}) viene escluso, cosi' come i nemici dello stesso tipo
+	 * che si trovano esattamente nella sua posizione, che non si bloccano a vicenda.
+	 *
+	 * @param i L'indice del nemico da verificare.
+	 * @param x La coordinata x del rettangolo.
+	 * @param y La coordinata y del rettangolo.
+	 * @param width La larghezza del rettangolo.
+	 * @param height L'altezza del rettangolo.
+	 * @param invoking L'indice del nemico che esegue il controllo, oppure -1 se e' il giocatore.
+	 * @return {@code true} se il nemico e' vivo e il suo collider interseca il rettangolo, {@code false} altrimenti.
+	 */
+	boolean intersects(int i, int x, int y, int width, int height, int invoking) {
+
+		if (!alive[i]) return false;
+		if (invoking >= 0 && (i == invoking || (types[i] == types[invoking] && xs[i] == xs[invoking] && ys[i] == ys[invoking]))) {
+			return false;
+		}
+
+		int colliderX = xs[i] + COLLIDER_OFFSET;
+		return x < colliderX + COLLIDER_WIDTH && colliderX < x + width
+		    && y < ys[i] + COLLIDER_HEIGHT && ys[i] < y + height;
+	}
+
+	/**
+	 * Riduce i punti vita del nemico e avvia il cooldown dei danni. Se i punti vita raggiungono zero, il nemico muore.
+	 *
+	 * @param i L'indice del nemico.
+	 * @param tick Il tick corrente della simulazione.
+	 */
+	void damage(int i, long tick) {
+		hps[i]--;
+		damaged[i] = true;
+		damagedUntil[i] = tick + COLLISION_COOLDOWN;
+		if (hps[i] <= 0) {
+			die(i, tick);
+		}
+	}
+
+	/**
+	 * Gestisce la morte del nemico: ne interrompe il movimento e avvia l'animazione di morte.
+	 *
+	 * @param i L'indice del nemico.
+	 * @param tick Il tick corrente della simulazione.
+	 */
+	void die(int i, long tick) {
+		if (alive[i]) {
+			moving[i] = false;
+			alive[i] = false;
+			dyingUntil[i] = tick + DYING_DURATION;
+			handles[i].modified();
+		}
+	}
+
+	/**
+	 * Restituisce il tick corrente del terreno, per le azioni invocate al di fuori di {@link #updateAll(long)}.
+	 *
+	 * @return Il tick corrente della simulazione.
+	 */
+	long currentTick() {
+		return floor.getScheduler().getCurrentTick();
+	}
+
+	/**
+	 * Ridimensiona gli array alla capacita' specificata, mantenendo i nemici presenti.
+	 *
+	 * @param capacity La nuova capacita'.
+	 */
+	private void allocate(int capacity) {
+		handles = (handles == null) ? new Enemy[capacity] : Arrays.copyOf(handles, capacity);
+		types = (types == null) ? new byte[capacity] : Arrays.copyOf(types, capacity);
+		xs = (xs == null) ? new int[capacity] : Arrays.copyOf(xs, capacity);
+		ys = (ys == null) ? new int[capacity] : Arrays.copyOf(ys, capacity);
+		directions = (directions == null) ? new byte[capacity] : Arrays.copyOf(directions, capacity);
+		hps = (hps == null) ? new int[capacity] : Arrays.copyOf(hps, capacity);
+		moving = (moving == null) ? new boolean[capacity] : Arrays.copyOf(moving, capacity);
+		blocked = (blocked == null) ? new boolean[capacity] : Arrays.copyOf(blocked, capacity);
+		alive = (alive == null) ? new boolean[capacity] : Arrays.copyOf(alive, capacity);
+		damaged = (damaged == null) ? new boolean[capacity] : Arrays.copyOf(damaged, capacity);
+		animationFinished = (animationFinished == null) ? new boolean[capacity] : Arrays.copyOf(animationFinished, capacity);
+		damagedUntil = (damagedUntil == null) ? new long[capacity] : Arrays.copyOf(damagedUntil, capacity);
+		dyingUntil = (dyingUntil == null) ? new long[capacity] : Arrays.copyOf(dyingUntil, capacity);
+	}
+
+	/**
+	 * Restituisce il numero di nemici presenti.
+	 *
+	 * @return Il numero di nemici.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Restituisce il tempo della simulazione all'ultimo aggiornamento dei nemici.
+	 *
+	 * @return Il tempo corrente della simulazione, in millisecondi.
+	 */
+	public long getCurrentTime() {
+		return currentTime;
+	}
+
+	//Accesso allo stato dei singoli nemici, utilizzato da Enemy
+
+	int getType(int i) {
+		return types[i];
+	}
+
+	String getName(int i) {
+		return NAMES[types[i]];
+	}
+
+	int getX(int i) {
+		return xs[i];
+	}
+
+	void setX(int i, int x) {
+		xs[i] = x;
+	}
+
+	int getY(int i) {
+		return ys[i];
+	}
+
+	void setY(int i, int y) {
+		ys[i] = y;
+	}
+
+	int getColliderX(int i) {
+		return xs[i] + COLLIDER_OFFSET;
+	}
+
+	int getColliderY(int i) {
+		return ys[i];
+	}
+
+	int getColliderWidth() {
+		return COLLIDER_WIDTH;
+	}
+
+	int getColliderHeight() {
+		return COLLIDER_HEIGHT;
+	}
+
+	int getSpeed(int i) {
+		return SPEED[types[i]];
+	}
+
+	int getScorePoints(int i) {
+		return SCORE_POINTS[types[i]];
+	}
+
+	int getHp(int i) {
+		return hps[i];
+	}
+
+	Move getDirection(int i) {
+		return MOVES[directions[i]];
+	}
+
+	void setDirection(int i, Move direction) {
+		directions[i] = (byte) direction.ordinal();
+	}
+
+	void stop(int i) {
+		moving[i] = false;
+	}
+
+	boolean isAlive(int i) {
+		return alive[i];
+	}
+
+	boolean isDamaged(int i) {
+		return damaged[i];
+	}
+
+	boolean isAnimationFinished(int i) {
+		return animationFinished[i];
+	}
+}
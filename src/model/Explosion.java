@@ -6,6 +6,8 @@ import java.util.Observable;
 import java.util.Set;
 /**
  * Classe che rappresenta l'esplosione generata da una bomba esplosa.
+ * Le celle coinvolte vengono calcolate dal {@code BlastPropagator}.
+ * L'esplosione resta attiva per un numero fisso di tick, scanditi dal {@code Floor}.
  * Estende la classe {@code Observable} per notificare gli osservatori riguardo le sue modifiche.
  *
  * @author Lorenzo Zanda
@@ -14,22 +16,19 @@ import java.util.Set;
 public class Explosion extends Observable{
 	
 	private Bomb bomb;
-	private Floor floor;
 	private Set<Point> explosionTiles;
+	private int elapsedTicks;
+	
+	private static final int DURATION_TICKS = (int)TickScheduler.toTicks(500);
 	
 	/**
 	 * Crea un nuovo oggetto {@code Explosion} associato alla bomba appena esplosa.
 	 * 
 	 * @param bomb La bomba che ha generato l'esplosione.
-	 * @param floor Il terreno di gioco in cui si verifica l'esplosione.
 	 */
-	public Explosion(Bomb bomb, Floor floor) {
+	public Explosion(Bomb bomb) {
 		this.bomb = bomb;
-		this.floor = floor;
 		explosionTiles = new HashSet<Point>();
-		
-		explosionTiles.add(new Point(bomb.getX(), bomb.getY()));
-		obtainExplosionTiles();
 	}
 	
     /**
@@ -41,50 +40,41 @@ public class Explosion extends Observable{
 	}
 	
     /**
-     * Ottiene le celle coinvolte nell'esplosione in base alla posizione e al raggio della bomba.
-     * Rimuove i power-up che si trovano sulle celle coinvolte.
+     * Aggiorna l'esplosione per un tick della simulazione e notifica gli osservatori.
      */
-	public void obtainExplosionTiles() {
-	    
-	    int x = bomb.getX();
-	    int y = bomb.getY();
-	    int radius = bomb.getExplosionRadius();
-	    
-	    addExplosionTiles(x-1, y, radius, -1, 0); 	//left
-	    addExplosionTiles(x+1, y, radius, +1, 0);	//right
-	    addExplosionTiles(x, y-1, radius, 0, -1);	//up
-	    addExplosionTiles(x, y+1, radius, 0, +1);	//down
-	    floor.removePowerUps(this);	
+	public void update() {
+		if (elapsedTicks < DURATION_TICKS) {
+			elapsedTicks++;
+		}
+		modified();
 	}
-
+	
     /**
-     * Metodo di utilita' per aggiungere le celle coinvolte nell'esplosione in una direzione specifica.
+     * Restituisce l'avanzamento dell'esplosione.
      *
-     * @param x      La coordinata x di partenza.
-     * @param y      La coordinata y di partenza.
-     * @param radius Il raggio dell'esplosione.
-     * @param dx     La variazione in x per ogni passo.
-     * @param dy     La variazione in y per ogni passo.
+     * @return Un valore compreso tra 0 (appena generata) e 1 (conclusa).
      */
-	private void addExplosionTiles(int x, int y, int radius, int dx, int dy) {
-		
-		while (radius > 0) {
-			if (x >= 0 && x < floor.getWidth() && y >= 0 && y < floor.getHeight()) {
-				Tile tile = floor.getCell(y, x);
-				
-				if (tile.getType() == TileType.BREAKABLE || tile.getType() == TileType.UNBREAKABLE) {
-					break;
-				}
-				
-				//Altrimenti -> e' un FLOOR che rientra nell'esplosione della bomba
-				else {
-				    explosionTiles.add(new Point(x, y));
-					x += dx;
-					y += dy;
-					radius--;
-				}
-			}
-		}
+	public double getProgress() {
+		return (double)elapsedTicks / DURATION_TICKS;
+	}
+	
+    /**
+     * Verifica se l'esplosione si e' conclusa.
+     *
+     * @return {@code true} se l'esplosione e' conclusa, {@code false} altrimenti.
+     */
+	public boolean isFinished() {
+		return elapsedTicks >= DURATION_TICKS;
+	}
+	
+    /**
+     * Aggiunge una cella all'insieme delle celle coinvolte nell'esplosione.
+     *
+     * @param x La coordinata x della cella.
+     * @param y La coordinata y della cella.
+     */
+	void addExplosionTile(int x, int y) {
+		explosionTiles.add(new Point(x, y));
 	}
 	
     /**
@@ -1,16 +1,30 @@
 package model;
 
-import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import controller.AudioManager;
 import utilities.Constants;
+import utilities.GameRandom;
 
 /**
  * Classe che rappresenta il terreno di un livello nel gioco.
  * Si occupa di gestire tutti gli elementi presenti sul terreno.
  * Inoltre, gestisce le collisioni del giocatore e dei nemici sul terreno.
+ * Le collisioni con bombe, nemici, power-up ed esplosioni sono risolte tramite un {@code OccupancyGrid},
+ * che limita i controlli alle celle sovrapposte dal collider dell'entita'.
+ * Lo stato dei nemici e' memorizzato in un {@code EnemyStore}, che li aggiorna tutti in un unico ciclo.
+ * I nemici che inseguono il giocatore leggono la mappa delle distanze condivisa ({@code FlowField}),
+ * che il terreno mantiene aggiornata quando la disposizione delle celle cambia.
+ * Allo stesso modo la {@code DangerMap} indica per ogni cella il primo tick in cui verra' raggiunta da un'esplosione,
+ * aggiornata quando le bombe vengono piazzate o esplodono.
+ * 
+ * Il terreno possiede inoltre tutte le tempistiche del ciclo di vita dei propri elementi (distruzione dei blocchi,
+ * durata delle esplosioni, rimozione dei nemici sconfitti), scandite in tick da {@link #update()}:
+ * la simulazione puo' quindi avanzare anche senza alcuna vista associata.
+ * Le scelte casuali delle entita' (ad esempio la direzione dei nemici) usano un unico generatore per terreno,
+ * inizializzabile con un seme per riprodurre la stessa partita; il seme viene estratto da {@code GameRandom} a ogni livello.
  * 
  * @author Lorenzo Zanda
  */
@@ -27,14 +41,34 @@ public class Floor {
 	private List<PowerUp> powerUps;
 	private List<Enemy> enemies;
 	private Exit exit;
+	private TickScheduler scheduler;
+	private OccupancyGrid occupancy;
+	private BlastPropagator blastPropagator;
+	private int layoutVersion;
+	private long seed;
+	private SplittableRandom random;
+	private EnemyStore enemyStore;
+	private FlowField flowField;
+	private DangerMap dangerMap;
 	
     /**
-     * Costruisce un nuovo oggetto {@code Floor} con le dimensioni specificate.
+     * Costruisce un nuovo oggetto {@code Floor} con le dimensioni specificate e un seme estratto da {@code GameRandom}.
      * 
      * @param width La larghezza del terreno.
      * @param height L'altezza del terreno.
      */
 	public Floor(int width, int height) {
+		this(width, height, GameRandom.getInstance().get(GameRandom.Stream.SIMULATION).nextLong());
+	}
+	
+    /**
+     * Costruisce un nuovo oggetto {@code Floor} con le dimensioni specificate.
+     * 
+     * @param width La larghezza del terreno.
+     * @param height L'altezza del terreno.
+     * @param seed Il seme del generatore casuale del terreno.
+     */
+	public Floor(int width, int height, long seed) {
 		this.width = width;
 		this.height = height;
 		tiles = new Tile[height][width];
@@ -43,6 +77,14 @@ public class Floor {
 		explosions = new ArrayList<Explosion>();
 		powerUps = new ArrayList<PowerUp>();
 		enemies = new ArrayList<Enemy>();
+		scheduler = new TickScheduler();
+		occupancy = new OccupancyGrid(width, height);
+		blastPropagator = new BlastPropagator(this);
+		this.seed = seed;
+		random = new SplittableRandom(seed);
+		enemyStore = new EnemyStore(this);
+		flowField = new FlowField(this);
+		dangerMap = new DangerMap(this);
 	}
 	
     /**
@@ -67,11 +109,24 @@ public class Floor {
      * @return {@code true} se il collider entra in collisione con i blocchi solidi, {@code false} altrimenti.
      */
 	public boolean collidesWithBlocks(Rectangle entityCollider) {
+		return collidesWithBlocks(entityCollider.x, entityCollider.y, entityCollider.width, entityCollider.height);
+	}
+	
+    /**
+     * Verifica se il collider specificato, espresso in coordinate primitive, entra in collisione con i blocchi solidi del terreno.
+     * 
+     * @param colliderX La coordinata x del collider.
+     * @param colliderY La coordinata y del collider.
+     * @param width La larghezza del collider.
+     * @param height L'altezza del collider.
+     * @return {@code true} se il collider entra in collisione con i blocchi solidi, {@code false} altrimenti.
+     */
+	public boolean collidesWithBlocks(int colliderX, int colliderY, int width, int height) {
 		
-		int left   = entityCollider.x / TILESIZE;
-	    int right  = (entityCollider.x + entityCollider.width - 1) / TILESIZE;
-	    int top    = entityCollider.y / TILESIZE;
-	    int bottom = (entityCollider.y + entityCollider.height - 1) / TILESIZE;
+		int left   = colliderX / TILESIZE;
+	    int right  = (colliderX + width - 1) / TILESIZE;
+	    int top    = colliderY / TILESIZE;
+	    int bottom = (colliderY + height - 1) / TILESIZE;
 	    
 	    //Controlla collisione in ogni direzione
 	    for (int y = top; y <= bottom; y++) {
@@ -96,14 +151,27 @@ public class Floor {
      */
 	public boolean playerCollidesWithBombs(Rectangle playerCollider) {
 		
-		for (Bomb bomb : bombsPlaced) {
-			
-			//Check distanza giocatore dalla bomba -> se il giocatore e' lontano a sufficienza allora collisione attiva
-			bomb.enableCollision(playerCollider);
-			if (bomb.getCollisionEnabled() && bomb.getCollider().intersects(playerCollider)) {
-				return true;
+		//Check distanza giocatore dalle bombe appena piazzate -> se il giocatore e' lontano a sufficienza allora collisione attiva
+		for (int i = 0; i < bombsPlaced.size(); i++) {
+			Bomb bomb = bombsPlaced.get(i);
+			if (!bomb.getCollisionEnabled()) {
+				bomb.enableCollision(playerCollider);
 			}
 		}
+		
+		int left   = occupancy.column(playerCollider.x);
+	    int right  = occupancy.column(playerCollider.x + playerCollider.width - 1);
+	    int top    = occupancy.row(playerCollider.y);
+	    int bottom = occupancy.row(playerCollider.y + playerCollider.height - 1);
+	    
+	    for (int y = top; y <= bottom; y++) {
+	        for (int x = left; x <= right; x++) {
+	        	Bomb bomb = occupancy.getBomb(x, y);
+				if (bomb != null && bomb.getCollisionEnabled() && bomb.getCollider().intersects(playerCollider)) {
+					return true;
+				}
+	        }
+	    }
 		return false;
 	}
 	
@@ -114,9 +182,34 @@ public class Floor {
      * @return {@code true} se il collider entra in collisione con la bombe, {@code false} altrimenti.
      */
 	public boolean enemyCollidesWithBombs(Rectangle enemyCollider) {
+		return enemyCollidesWithBombs(enemyCollider.x, enemyCollider.y, enemyCollider.width, enemyCollider.height);
+	}
+	
+    /**
+     * Verifica se il collider del nemico, espresso in coordinate primitive, entra in collisione con le bombe piazzate.
+     * 
+     * @param colliderX La coordinata x del collider.
+     * @param colliderY La coordinata y del collider.
+     * @param width La larghezza del collider.
+     * @param height L'altezza del collider.
+     * @return {@code true} se il collider entra in collisione con la bombe, {@code false} altrimenti.
+     */
+	public boolean enemyCollidesWithBombs(int colliderX, int colliderY, int width, int height) {
 		
-		return bombsPlaced.stream()
-						  .anyMatch(bomb -> bomb.getCollider().intersects(enemyCollider));
+		int left   = occupancy.column(colliderX);
+	    int right  = occupancy.column(colliderX + width - 1);
+	    int top    = occupancy.row(colliderY);
+	    int bottom = occupancy.row(colliderY + height - 1);
+	    
+	    for (int y = top; y <= bottom; y++) {
+	        for (int x = left; x <= right; x++) {
+	        	Bomb bomb = occupancy.getBomb(x, y);
+				if (bomb != null && intersects(bomb.getCollider(), colliderX, colliderY, width, height)) {
+					return true;
+				}
+	        }
+	    }
+		return false;
 	}
 	
 	/**
@@ -130,10 +223,40 @@ public class Floor {
 	 * @return {@code true} se il collider entra in collisione con i nemici, {@code false} altrimenti.
 	 */
 	public boolean collidesWithEnemies(Rectangle entityCollider, Enemy invokingEnemy) {
+		return collidesWithEnemies(entityCollider.x, entityCollider.y, entityCollider.width, entityCollider.height,
+				invokingEnemy == null ? -1 : invokingEnemy.index);
+	}
+	
+	/**
+	 * Verifica se il collider specificato, espresso in coordinate primitive, entra in collisione con i nemici presenti sulla mappa.
+	 * Il nemico che invoca il metodo e i nemici dello stesso tipo nella sua stessa posizione vengono esclusi.
+	 * 
+	 * @param colliderX La coordinata x del collider.
+	 * @param colliderY La coordinata y del collider.
+	 * @param width La larghezza del collider.
+	 * @param height L'altezza del collider.
+	 * @param invokingIndex L'indice del nemico che invoca il metodo, oppure -1 se lo invoca il giocatore.
+	 * @return {@code true} se il collider entra in collisione con i nemici, {@code false} altrimenti.
+	 */
+	public boolean collidesWithEnemies(int colliderX, int colliderY, int width, int height, int invokingIndex) {
 		
-		return enemies.stream()
-					  .filter(Enemy::isAlive)
-					  .anyMatch(enemy -> !enemy.equals(invokingEnemy) && enemy.getCollider().intersects(entityCollider));
+		int left   = occupancy.column(colliderX);
+	    int right  = occupancy.column(colliderX + width - 1);
+	    int top    = occupancy.row(colliderY);
+	    int bottom = occupancy.row(colliderY + height - 1);
+	    
+	    //Solo i nemici registrati nelle celle sovrapposte dal collider possono intersecarlo
+	    for (int y = top; y <= bottom; y++) {
+	        for (int x = left; x <= right; x++) {
+	        	List<Enemy> cell = occupancy.getEnemies(x, y);
+	        	for (int i = 0; i < cell.size(); i++) {
+	        		if (enemyStore.intersects(cell.get(i).index, colliderX, colliderY, width, height, invokingIndex)) {
+	        			return true;
+	        		}
+	        	}
+	        }
+	    }
+		return false;
 	}
 	
     /**
@@ -143,12 +266,40 @@ public class Floor {
      * @return {@code true} se il collider entra in collisione con esplosioni, {@code false} altrimenti.
      */
 	public boolean collidesWithExplosions(Rectangle entityCollider) {
+		return collidesWithExplosions(entityCollider.x, entityCollider.y, entityCollider.width, entityCollider.height);
+	}
+	
+    /**
+     * Verifica se il collider specificato, espresso in coordinate primitive, entra in collisione con le esplosioni.
+     * 
+     * @param colliderX La coordinata x del collider.
+     * @param colliderY La coordinata y del collider.
+     * @param width La larghezza del collider.
+     * @param height L'altezza del collider.
+     * @return {@code true} se il collider entra in collisione con esplosioni, {@code false} altrimenti.
+     */
+	public boolean collidesWithExplosions(int colliderX, int colliderY, int width, int height) {
 		
-		int entityX = (entityCollider.x + entityCollider.width / 2) / TILESIZE;
-		int entityY = (entityCollider.y + entityCollider.height / 2) / TILESIZE;
+		int entityX = occupancy.column(colliderX + width / 2);
+		int entityY = occupancy.row(colliderY + height / 2);
 		
-		return explosions.stream()
-						 .anyMatch(exp -> exp.getExplosionTiles().contains(new Point(entityX, entityY)));
+		return occupancy.isBurning(entityX, entityY);
+	}
+	
+    /**
+     * Verifica se un rettangolo interseca un collider espresso in coordinate primitive (stesso criterio di {@code Rectangle.intersects}).
+     * 
+     * @param rectangle Il rettangolo.
+     * @param x La coordinata x del collider.
+     * @param y La coordinata y del collider.
+     * @param width La larghezza del collider.
+     * @param height L'altezza del collider.
+     * @return {@code true} se i due rettangoli si intersecano, {@code false} altrimenti.
+     */
+	private static boolean intersects(Rectangle rectangle, int x, int y, int width, int height) {
+		return rectangle.width > 0 && rectangle.height > 0 && width > 0 && height > 0
+		    && x < rectangle.x + rectangle.width && rectangle.x < x + width
+		    && y < rectangle.y + rectangle.height && rectangle.y < y + height;
 	}
 	
     /**
@@ -159,31 +310,23 @@ public class Floor {
      */
 	public PowerUp collidesWithPowerUps(Rectangle playerCollider) {
 	
-		for (PowerUp powerUp : powerUps) {
-			if (powerUp.getCollider().intersects(playerCollider)) {
-				powerUp.setCollected(true);
-				return powerUp;
-			}
-		}
+		int left   = occupancy.column(playerCollider.x);
+	    int right  = occupancy.column(playerCollider.x + playerCollider.width - 1);
+	    int top    = occupancy.row(playerCollider.y);
+	    int bottom = occupancy.row(playerCollider.y + playerCollider.height - 1);
+	    
+	    for (int y = top; y <= bottom; y++) {
+	        for (int x = left; x <= right; x++) {
+	        	PowerUp powerUp = occupancy.getPowerUp(x, y);
+				if (powerUp != null && powerUp.getCollider().intersects(playerCollider)) {
+					powerUp.setCollected(true);
+					return powerUp;
+				}
+	        }
+	    }
 		return null;	
 	}
 
-    /**
-     * Rimuove i power-up colpiti da un'esplosione.
-     * 
-     * @param explosion L'esplosione.
-     */
-	public void removePowerUps(Explosion explosion) {
-		
-		for (PowerUp powerUp : powerUps) {
-			int powerUpX = powerUp.getX();
-			int powerUpY = powerUp.getY();
-			if (explosion.getExplosionTiles().contains(new Point(powerUpX, powerUpY))) {
-				powerUp.setCollected(true);
-			}
-		}
-	}
-	
     /**
      * Verifica se il collider del giocatore entra in collisione con l'uscita.
      * 
@@ -201,57 +344,135 @@ public class Floor {
 	}
 	
 	/**
-     * In seguito all'esplosione di una bomba, distrugge i blocchi nel raggio di esplosione.
-     * 
-     * @param explosion L'esplosione generata dalla bomba.
-     */
-	public void explodeBomb(Explosion explosion) {
+	 * Fa avanzare di un tick la simulazione del terreno di gioco.
+	 * Aggiorna lo scheduler, i blocchi in distruzione e le esplosioni attive, fa detonare le bombe pronte
+	 * ad esplodere (restituendole al giocatore che le ha piazzate) e rimuove le esplosioni concluse,
+	 * i power-up raccolti e i nemici la cui animazione di morte e' terminata.
+	 *
+	 * @return La lista delle esplosioni generate in questo tick (valida fino alla chiamata successiva).
+	 */
+	public List<Explosion> update() {
 		
-		Bomb bomb = explosion.getBomb();
+		scheduler.tick();
 		
-		int x = bomb.getX();
-		int y = bomb.getY();
-		int radius = bomb.getExplosionRadius();
+		//Blocchi colpiti -> diventano pavimento al termine della distruzione
+		for (int i = tilesExploded.size() - 1; i >= 0; i--) {
+			Tile tile = tilesExploded.get(i);
+			tile.update();
+			if (!tile.isHit()) {
+				tilesExploded.remove(i);
+				flowField.cellOpened(tile.getX(), tile.getY());
+				dangerMap.invalidate();
+			}
+		}
 		
-		destroyBlock(explosion, x-1, y, radius, -1, 0); //left
-		destroyBlock(explosion, x+1, y, radius, +1, 0); //right
-		destroyBlock(explosion, x, y-1, radius, 0, -1); //up
-		destroyBlock(explosion, x, y+1, radius, 0, +1); //down
-	}
-	
-    /**
-     * Distrugge un blocco nel raggio di esplosione della bomba.
-     * 
-     * @param explosion L'esplosione generata dalla bomba.
-     * @param x La coordinata x del blocco da distruggere.
-     * @param y La coordinata y del blocco da distruggere.
-     * @param radius Il raggio di esplosione della bomba.
-     * @param dx La direzione x in cui distruggere i blocchi.
-     * @param dy La direzione y in cui distruggere i blocchi.
-     */
-	public void destroyBlock(Explosion explosion, int x, int y, int radius, int dx, int dy) {
+		//Esplosioni attive -> rimosse quando concluse
+		for (int i = explosions.size() - 1; i >= 0; i--) {
+			Explosion explosion = explosions.get(i);
+			explosion.update();
+			if (explosion.isFinished()) {
+				explosions.remove(i);
+				occupancy.removeExplosion(explosion);
+			}
+		}
 		
-		while (radius > 0) {
-			
-			if (x >= 0 && x < width && y >= 0 && y < height) {
-				
-				Tile tile = tiles[y][x];
-				
-				if (tile.getType().equals(TileType.BREAKABLE)) {
-					tilesExploded.add(tile);
-					tile.setHit(true);
-					break;
-				}
-				
-				else if (tile.getType().equals(TileType.UNBREAKABLE)) break;
-				
-				else {
-					x += dx;
-					y += dy;
-					radius--;
-				}
-			}	
+		List<Explosion> detonated = detonateBombs();
+		for (int i = 0; i < detonated.size(); i++) {
+			Explosion explosion = detonated.get(i);
+			addExplosion(explosion);
+			Player owner = explosion.getBomb().getOwner();
+			if (owner != null) {
+				//il giocatore puo' ripiazzare una bomba in piu'
+				owner.setCurrentBombs(owner.getCurrentBombs() + 1);
+			}
+		}
+		
+		for (int i = powerUps.size() - 1; i >= 0; i--) {
+			PowerUp powerUp = powerUps.get(i);
+			if (powerUp.isCollected()) {
+				powerUps.remove(i);
+				occupancy.removePowerUp(powerUp);
+			}
+		}
+		
+		for (int i = enemies.size() - 1; i >= 0; i--) {
+			Enemy enemy = enemies.get(i);
+			if (!enemy.isAlive() && enemy.isAnimationFinished()) {
+				removeEnemy(enemy);
+			}
 		}
+		
+		dangerMap.refresh();
+		return detonated;
+	}
+	
+	/**
+	 * Fa detonare le bombe pronte ad esplodere, risolvendo le reazioni a catena tramite il {@code BlastPropagator}.
+	 * I blocchi distruttibili e i power-up colpiti vengono marcati durante la stessa visita;
+	 * le celle raggiunte dalle bombe detonate vengono liberate nella mappa del pericolo.
+	 * Le esplosioni restituite devono essere aggiunte al terreno con {@link #addExplosion(Explosion)}.
+	 *
+	 * @return La lista delle esplosioni generate (valida fino alla chiamata successiva).
+	 */
+	public List<Explosion> detonateBombs() {
+		List<Explosion> detonated = blastPropagator.propagate();
+		dangerMap.bombsDetonated(detonated);
+		return detonated;
+	}
+	
+	/**
+	 * Restituisce il generatore casuale del terreno, condiviso da tutte le entita' che vi si trovano.
+	 *
+	 * @return Il generatore casuale del terreno.
+	 */
+	public SplittableRandom getRandom() {
+		return random;
+	}
+	
+	/**
+	 * Imposta il seme del terreno e ricrea il generatore casuale, ad esempio all'inizio di un nuovo livello.
+	 *
+	 * @param seed Il nuovo seme del terreno.
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		random = new SplittableRandom(seed);
+	}
+	
+	/**
+	 * Restituisce il seme del generatore casuale del terreno.
+	 *
+	 * @return Il seme del terreno.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Restituisce l'archivio dei nemici del terreno.
+	 *
+	 * @return L'archivio dei nemici.
+	 */
+	public EnemyStore getEnemyStore() {
+		return enemyStore;
+	}
+	
+	/**
+	 * Restituisce la mappa delle distanze dal giocatore, utilizzata dai nemici che lo inseguono.
+	 *
+	 * @return La mappa delle distanze.
+	 */
+	public FlowField getFlowField() {
+		return flowField;
+	}
+	
+	/**
+	 * Restituisce la mappa del pericolo, che indica quando ogni cella verra' raggiunta da un'esplosione.
+	 *
+	 * @return La mappa del pericolo.
+	 */
+	public DangerMap getDangerMap() {
+		return dangerMap;
 	}
 	
 	/**
@@ -294,13 +515,31 @@ public class Floor {
 	
 	/**
 	 * Imposta la cella del terreno con il valore della cella fornita.
+	 * Se il tipo della cella cambia, viene incrementata la versione della disposizione del terreno
+	 * e le mappe delle distanze e del pericolo vengono invalidate.
 	 *
 	 * @param tile La cella da impostare.
 	 */
 	public void setCell(Tile tile) {
+		Tile previous = tiles[tile.getY()][tile.getX()];
+		if (previous == null || previous.getType() != tile.getType()) {
+			layoutVersion++;
+			flowField.invalidate();
+			dangerMap.invalidate();
+		}
 		tiles[tile.getY()][tile.getX()] = tile;
 	}
 	
+	/**
+	 * Restituisce la versione della disposizione del terreno, incrementata ogni volta che {@link #setCell(Tile)}
+	 * modifica il tipo di una cella. Permette alle viste di capire quando i livelli grafici statici vanno ridisegnati.
+	 *
+	 * @return La versione della disposizione del terreno.
+	 */
+	public int getLayoutVersion() {
+		return layoutVersion;
+	}
+	
 	/**
 	 * Restituisce la lista delle bombe piazzate sul terreno di gioco.
 	 *
@@ -346,6 +585,24 @@ public class Floor {
 		return tilesExploded;
 	}
 	
+	/**
+	 * Restituisce lo scheduler che scandisce il tempo della simulazione sul terreno di gioco.
+	 *
+	 * @return Lo scheduler della simulazione.
+	 */
+	public TickScheduler getScheduler() {
+		return scheduler;
+	}
+	
+	/**
+	 * Restituisce l'indice spaziale degli elementi presenti sul terreno di gioco.
+	 *
+	 * @return L'indice spaziale del terreno.
+	 */
+	OccupancyGrid getOccupancy() {
+		return occupancy;
+	}
+	
 	/**
 	 * Restituisce l'uscita sul terreno di gioco.
 	 *
@@ -372,10 +629,12 @@ public class Floor {
      * @return {@code true} se la bomba  stata aggiunta con successo, {@code false} altrimenti.
      */
 	public boolean addBomb(Bomb bomb) {
-		if (!(bombsPlaced.contains(bomb))) {
+		if (occupancy.getBomb(bomb.getX(), bomb.getY()) == null) {
 			AudioManager.getInstance().play("/audio/bomb-place.wav");
 			bombsPlaced.add(bomb);
-			bomb.tick(); //start timer
+			occupancy.addBomb(bomb);
+			bomb.tick(scheduler); //start timer
+			dangerMap.bombPlaced(bomb);
 			return true;
 		}
 		return false;
@@ -388,6 +647,17 @@ public class Floor {
 	 */
 	public void addExplosion(Explosion explosion) {
 		explosions.add(explosion);
+		occupancy.addExplosion(explosion);
+	}
+	
+	/**
+	 * Rimuove un'esplosione conclusa dal terreno di gioco.
+	 *
+	 * @param explosion L'esplosione da rimuovere.
+	 */
+	public void removeExplosion(Explosion explosion) {
+		explosions.removeIf(e -> e == explosion);
+		occupancy.removeExplosion(explosion);
 	}
 	
 	/**
@@ -397,15 +667,71 @@ public class Floor {
 	 */
 	public void addPowerUp(PowerUp powerUp) {
 		powerUps.add(powerUp);
+		occupancy.addPowerUp(powerUp);
 	}
 	
 	/**
-	 * Aggiunge un nemico alla lista dei nemici presenti sul terreno di gioco.
+	 * Crea un nuovo nemico nella posizione specificata e lo aggiunge alla lista dei nemici presenti sul terreno di gioco.
 	 *
-	 * @param enemy Il nemico da aggiungere.
+	 * @param type Il codice del tipo di nemico ({@code EnemyStore.PUROPEN}, {@code EnemyStore.DENKYUN} o {@code EnemyStore.CHASER}).
+	 * @param x La coordinata x iniziale.
+	 * @param y La coordinata y iniziale.
+	 * @return Il nemico creato.
 	 */
-	public void addEnemy(Enemy enemy) {
+	public Enemy spawnEnemy(int type, int x, int y) {
+		Enemy enemy = enemyStore.add(type, x, y);
 		enemies.add(enemy);
+		occupancy.addEnemy(enemy, enemyStore.getColliderX(enemy.index), enemyStore.getColliderY(enemy.index),
+				enemyStore.getColliderWidth(), enemyStore.getColliderHeight());
+		return enemy;
+	}
+	
+	/**
+	 * Fa avanzare di un tick tutti i nemici presenti sul terreno di gioco.
+	 */
+	public void updateEnemies() {
+		enemyStore.updateAll(scheduler.getCurrentTick());
+	}
+	
+	/**
+	 * Rimuove una bomba dal terreno di gioco.
+	 *
+	 * @param bomb La bomba da rimuovere.
+	 */
+	public void removeBomb(Bomb bomb) {
+		bombsPlaced.remove(bomb);
+		occupancy.removeBomb(bomb);
+	}
+	
+	/**
+	 * Rimuove un power-up dal terreno di gioco.
+	 *
+	 * @param powerUp Il power-up da rimuovere.
+	 */
+	public void removePowerUp(PowerUp powerUp) {
+		powerUps.remove(powerUp);
+		occupancy.removePowerUp(powerUp);
+	}
+	
+	/**
+	 * Rimuove un nemico dal terreno di gioco.
+	 *
+	 * @param enemy Il nemico da rimuovere.
+	 */
+	public void removeEnemy(Enemy enemy) {
+		enemies.remove(enemy.index);
+		occupancy.removeEnemy(enemy);
+		enemyStore.remove(enemy.index);
+	}
+	
+	/**
+	 * Aggiorna la posizione di un nemico nell'indice delle celle in seguito a uno spostamento.
+	 *
+	 * @param enemy Il nemico che si e' spostato.
+	 */
+	public void moveEnemy(Enemy enemy) {
+		occupancy.moveEnemy(enemy, enemyStore.getColliderX(enemy.index), enemyStore.getColliderY(enemy.index),
+				enemyStore.getColliderWidth(), enemyStore.getColliderHeight());
 	}
 	
 	/**
@@ -419,12 +745,17 @@ public class Floor {
 	
 	/**
 	 * Libera il terreno di gioco, rimuovendo tutte le bombe, esplosioni, power-up, nemici e tiles esplosi.
+	 * Annulla inoltre tutti gli eventi programmati sullo scheduler e ne riporta l'orologio al tick zero.
 	 */
 	public void clear() {
+		scheduler.reset();
+		occupancy.clear();
 		bombsPlaced.clear();
 		explosions.clear();
 		powerUps.clear();
 		enemies.clear();
+		enemyStore.clear();
 		tilesExploded.clear();
+		dangerMap.invalidate();
 	}
 }
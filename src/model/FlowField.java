@@ -0,0 +1,212 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Classe che rappresenta una mappa delle distanze (flow field) verso la cella occupata dal giocatore.
+ *
+ * Per ogni cella del terreno viene memorizzato, in un unico array riutilizzato, il numero di passi necessari
+ * per raggiungere il giocatore muovendosi sulle celle del pavimento; la mappa e' calcolata con una visita in ampiezza
+ * (BFS) a partire dalla cella del giocatore. Un nemico che insegue il giocatore deve soltanto spostarsi verso la cella
+ * adiacente con distanza minore: il costo della ricerca del percorso e' quindi condiviso da tutti i nemici.
+ *
+ * La mappa viene ricalcolata per intero solo quando il giocatore cambia cella o la disposizione del terreno viene
+ * sostituita; quando un blocco distrutto diventa pavimento le distanze vengono soltanto abbassate, propagando
+ * la nuova cella ai vicini che ne traggono vantaggio.
+ *
+ * @author Lorenzo Zanda
+ * @see Floor
+ */
+public class FlowField {
+
+	/** Distanza delle celle da cui il giocatore non e' raggiungibile. */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	private static final Move[] MOVES = Move.values();
+
+	private Floor floor;
+	private int width;
+	private int height;
+	private int[] distances;
+	private int[] queue;
+	private int targetX = -1;
+	private int targetY = -1;
+	private boolean dirty = true;
+	private int recomputations;
+
+	/**
+	 * Costruisce una nuova mappa delle distanze per il terreno specificato.
+	 *
+	 * @param floor Il terreno di gioco.
+	 */
+	public FlowField(Floor floor) {
+		this.floor = floor;
+		this.width = floor.getWidth();
+		this.height = floor.getHeight();
+		distances = new int[width * height];
+		queue = new int[width * height];
+		Arrays.fill(distances, UNREACHABLE);
+	}
+
+	/**
+	 * Imposta la cella di destinazione. Se e' diversa dalla precedente, la mappa verra' ricalcolata al prossimo {@link #refresh()}.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 */
+	public void setTarget(int x, int y) {
+		if (x != targetX || y != targetY) {
+			targetX = x;
+			targetY = y;
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Segnala che la disposizione del terreno e' cambiata: la mappa verra' ricalcolata per intero.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/**
+	 * Aggiorna la mappa in seguito all'apertura di una cella (un blocco distrutto diventato pavimento).
+	 * La cella prende la distanza minima dei vicini piu' uno e, se migliora, la nuova distanza viene propagata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 */
+	public void cellOpened(int x, int y) {
+
+		//Se e' gia' previsto un ricalcolo completo non serve propagare
+		if (dirty || !contains(x, y)) return;
+
+		int index = y * width + x;
+		int best = (x == targetX && y == targetY) ? 0 : UNREACHABLE;
+		for (int m = 0; m < MOVES.length; m++) {
+			int nx = x + MOVES[m].getX();
+			int ny = y + MOVES[m].getY();
+			if (contains(nx, ny) && distances[ny * width + nx] != UNREACHABLE) {
+				best = Math.min(best, distances[ny * width + nx] + 1);
+			}
+		}
+
+		if (best < distances[index]) {
+			distances[index] = best;
+			queue[0] = index;
+			propagate(1);
+		}
+	}
+
+	/**
+	 * Ricalcola la mappa, se necessario. Va invocato prima di leggere le distanze.
+	 */
+	public void refresh() {
+		if (dirty) {
+			dirty = false;
+			recompute();
+		}
+	}
+
+	/**
+	 * Ricalcola per intero la mappa con una visita in ampiezza a partire dalla cella di destinazione.
+	 */
+	private void recompute() {
+
+		Arrays.fill(distances, UNREACHABLE);
+		recomputations++;
+		if (!contains(targetX, targetY)) return;
+
+		int index = targetY * width + targetX;
+		distances[index] = 0;
+		queue[0] = index;
+		propagate(1);
+	}
+
+	/**
+	 * Propaga le distanze delle celle in coda ai vicini percorribili, finche' la coda non si svuota.
+	 * Le celle in coda hanno tutte la stessa distanza, quindi ogni cella viene inserita al piu' una volta.
+	 *
+	 * @param tail Il numero di celle gia' presenti in coda.
+	 */
+	private void propagate(int tail) {
+
+		Tile[][] tiles = floor.getTiles();
+		int head = 0;
+
+		while (head < tail) {
+			int index = queue[head++];
+			int x = index % width;
+			int y = index / width;
+			int next = distances[index] + 1;
+
+			for (int m = 0; m < MOVES.length; m++) {
+				int nx = x + MOVES[m].getX();
+				int ny = y + MOVES[m].getY();
+				if (!contains(nx, ny)) continue;
+
+				int neighbour = ny * width + nx;
+				if (next < distances[neighbour] && tiles[ny][nx].getType() == TileType.FLOOR) {
+					distances[neighbour] = next;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Restituisce la direzione verso la cella adiacente piu' vicina al giocatore.
+	 * A parita' di distanza viene scelta la prima direzione nell'ordine di {@code Move}.
+	 *
+	 * @param x La coordinata x della cella di partenza.
+	 * @param y La coordinata y della cella di partenza.
+	 * @return La direzione da seguire, oppure {@code null} se nessuna cella adiacente avvicina al giocatore.
+	 */
+	public Move nextMove(int x, int y) {
+
+		if (!contains(x, y)) return null;
+
+		int best = distances[y * width + x];
+		Move move = null;
+		for (int m = 0; m < MOVES.length; m++) {
+			int nx = x + MOVES[m].getX();
+			int ny = y + MOVES[m].getY();
+			if (contains(nx, ny) && distances[ny * width + nx] < best) {
+				best = distances[ny * width + nx];
+				move = MOVES[m];
+			}
+		}
+		return move;
+	}
+
+	/**
+	 * Restituisce la distanza dal giocatore della cella specificata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return Il numero di passi necessari per raggiungere il giocatore, oppure {@link #UNREACHABLE}.
+	 */
+	public int getDistance(int x, int y) {
+		return contains(x, y) ? distances[y * width + x] : UNREACHABLE;
+	}
+
+	/**
+	 * Restituisce il numero di ricalcoli completi eseguiti.
+	 *
+	 * @return Il numero di visite in ampiezza complete.
+	 */
+	public int getRecomputations() {
+		return recomputations;
+	}
+
+	/**
+	 * Verifica se la cella specificata appartiene al terreno.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return {@code true} se la cella appartiene al terreno, {@code false} altrimenti.
+	 */
+	private boolean contains(int x, int y) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+}
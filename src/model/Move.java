@@ -1,5 +1,7 @@
 package model;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Enumerazione che rappresenta tutte le direzioni possibili in cui un personaggio pu muoversi.
  * Ad ogni costante sono associati coordinate x e y che descrivono meglio in che modo il personaggio deve comportarsi 
@@ -25,6 +27,23 @@ public enum Move {
      */
 	DOWN(0, 1);
 	
+	/** Tutte le direzioni, copiate una sola volta ({@code values()} restituisce ogni volta un nuovo array). */
+	private static final Move[] VALUES = values();
+	
+	/** Per ogni direzione, le direzioni diverse da essa (tabella precalcolata, indicizzata per {@code ordinal()}). */
+	private static final Move[][] OTHERS = new Move[VALUES.length][VALUES.length - 1];
+	
+	static {
+		for (Move move : VALUES) {
+			int k = 0;
+			for (Move other : VALUES) {
+				if (other != move) {
+					OTHERS[move.ordinal()][k++] = other;
+				}
+			}
+		}
+	}
+	
 	private int x, y;
 	
     /**
@@ -55,4 +74,28 @@ public enum Move {
 	public int getY() {
 		return y;
 	}
+	
+    /**
+     * Restituisce una direzione casuale diversa da quella specificata, senza allocare oggetti.
+     *
+     * @param random Il generatore di numeri casuali da utilizzare.
+     * @param excluded La direzione da escludere, oppure {@code null} per scegliere tra tutte le direzioni.
+     * @return La direzione scelta.
+     */
+	public static Move random(RandomGenerator random, Move excluded) {
+		if (excluded == null) {
+			return VALUES[random.nextInt(VALUES.length)];
+		}
+		return excluded.turn(random.nextInt(VALUES.length - 1));
+	}
+	
+    /**
+     * Restituisce una delle direzioni diverse da questa.
+     *
+     * @param choice L'indice della direzione, compreso tra 0 e 2.
+     * @return La direzione scelta.
+     */
+	public Move turn(int choice) {
+		return OTHERS[ordinal()][choice];
+	}
 }
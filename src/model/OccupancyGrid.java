@@ -0,0 +1,317 @@
+package model;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import utilities.Constants;
+
+/**
+ * Classe che mantiene un indice spaziale degli elementi presenti sul terreno di gioco, suddiviso per celle.
+ * Per ogni cella registra la bomba e il power-up che vi si trovano, i nemici il cui collider la sovrappone
+ * e il numero di esplosioni attive che la coinvolgono.
+ *
+ * Viene utilizzata dal {@code Floor} per limitare i controlli di collisione alle sole celle
+ * sovrapposte dal collider dell'entita', invece di scorrere tutti gli elementi del terreno.
+ *
+ * @author Lorenzo Zanda
+ * @see Floor
+ */
+public class OccupancyGrid {
+
+	private final int TILESIZE = Constants.SCALED_TILESIZE;
+
+	private int width;
+	private int height;
+	private Bomb[] bombs;
+	private PowerUp[] powerUps;
+	private short[] explosions;
+	private List<List<Enemy>> enemies;
+	private Map<Enemy, Rectangle> enemyCells;
+
+	/**
+	 * Costruisce un nuovo {@code OccupancyGrid} vuoto con le dimensioni specificate.
+	 *
+	 * @param width La larghezza del terreno (in celle).
+	 * @param height L'altezza del terreno (in celle).
+	 */
+	public OccupancyGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		bombs = new Bomb[width * height];
+		powerUps = new PowerUp[width * height];
+		explosions = new short[width * height];
+		enemies = new ArrayList<List<Enemy>>(width * height);
+		for (int i = 0; i < width * height; i++) {
+			enemies.add(new ArrayList<Enemy>(2));
+		}
+		enemyCells = new IdentityHashMap<Enemy, Rectangle>();
+	}
+
+	/**
+	 * Registra una bomba nella cella in cui  piazzata.
+	 *
+	 * @param bomb La bomba da registrare.
+	 */
+	public void addBomb(Bomb bomb) {
+		bombs[index(bomb.getX(), bomb.getY())] = bomb;
+	}
+
+	/**
+	 * Rimuove una bomba dalla cella in cui  piazzata.
+	 *
+	 * @param bomb La bomba da rimuovere.
+	 */
+	public void removeBomb(Bomb bomb) {
+		int index = index(bomb.getX(), bomb.getY());
+		if (bombs[index] == bomb) {
+			bombs[index] = null;
+		}
+	}
+
+	/**
+	 * Restituisce la bomba piazzata nella cella specificata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return La bomba presente nella cella, altrimenti {@code null}.
+	 */
+	public Bomb getBomb(int x, int y) {
+		return bombs[index(x, y)];
+	}
+
+	/**
+	 * Registra un power-up nella cella in cui si trova.
+	 *
+	 * @param powerUp Il power-up da registrare.
+	 */
+	public void addPowerUp(PowerUp powerUp) {
+		powerUps[index(powerUp.getX(), powerUp.getY())] = powerUp;
+	}
+
+	/**
+	 * Rimuove un power-up dalla cella in cui si trova.
+	 *
+	 * @param powerUp Il power-up da rimuovere.
+	 */
+	public void removePowerUp(PowerUp powerUp) {
+		int index = index(powerUp.getX(), powerUp.getY());
+		if (powerUps[index] == powerUp) {
+			powerUps[index] = null;
+		}
+	}
+
+	/**
+	 * Restituisce il power-up presente nella cella specificata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return Il power-up presente nella cella, altrimenti {@code null}.
+	 */
+	public PowerUp getPowerUp(int x, int y) {
+		return powerUps[index(x, y)];
+	}
+
+	/**
+	 * Registra le celle coinvolte da un'esplosione, incrementandone il contatore.
+	 *
+	 * @param explosion L'esplosione da registrare.
+	 */
+	public void addExplosion(Explosion explosion) {
+		for (Point tile : explosion.getExplosionTiles()) {
+			explosions[index(tile.x, tile.y)]++;
+		}
+	}
+
+	/**
+	 * Rimuove le celle coinvolte da un'esplosione conclusa, decrementandone il contatore.
+	 *
+	 * @param explosion L'esplosione da rimuovere.
+	 */
+	public void removeExplosion(Explosion explosion) {
+		for (Point tile : explosion.getExplosionTiles()) {
+			int index = index(tile.x, tile.y);
+			if (explosions[index] > 0) {
+				explosions[index]--;
+			}
+		}
+	}
+
+	/**
+	 * Verifica se la cella specificata e' coinvolta da almeno un'esplosione attiva.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return {@code true} se la cella sta bruciando, {@code false} altrimenti.
+	 */
+	public boolean isBurning(int x, int y) {
+		return explosions[index(x, y)] > 0;
+	}
+
+	/**
+	 * Registra un nemico in tutte le celle sovrapposte dal suo collider.
+	 *
+	 * @param enemy Il nemico da registrare.
+	 * @param x La coordinata x del collider (in pixel).
+	 * @param y La coordinata y del collider (in pixel).
+	 * @param width La larghezza del collider.
+	 * @param height L'altezza del collider.
+	 */
+	public void addEnemy(Enemy enemy, int x, int y, int width, int height) {
+		Rectangle cells = new Rectangle();
+		setCells(cells, x, y, width, height);
+		enemyCells.put(enemy, cells);
+		addToCells(enemy, cells);
+	}
+
+	/**
+	 * Aggiorna le celle associate a un nemico in seguito al suo spostamento.
+	 * Le liste delle celle vengono modificate solo se l'insieme di celle sovrapposte e' cambiato.
+	 *
+	 * @param enemy Il nemico che si e' spostato.
+	 * @param x La coordinata x del collider (in pixel).
+	 * @param y La coordinata y del collider (in pixel).
+	 * @param width La larghezza del collider.
+	 * @param height L'altezza del collider.
+	 */
+	public void moveEnemy(Enemy enemy, int x, int y, int width, int height) {
+
+		Rectangle cells = enemyCells.get(enemy);
+		if (cells == null) {
+			return;
+		}
+
+		if (cells.x == column(x)
+		 && cells.y == row(y)
+		 && cells.x + cells.width - 1 == column(x + width - 1)
+		 && cells.y + cells.height - 1 == row(y + height - 1)) {
+			return;
+		}
+
+		removeFromCells(enemy, cells);
+		setCells(cells, x, y, width, height);
+		addToCells(enemy, cells);
+	}
+
+	/**
+	 * Rimuove un nemico da tutte le celle in cui e' registrato.
+	 *
+	 * @param enemy Il nemico da rimuovere.
+	 */
+	public void removeEnemy(Enemy enemy) {
+		Rectangle cells = enemyCells.remove(enemy);
+		if (cells != null) {
+			removeFromCells(enemy, cells);
+		}
+	}
+
+	/**
+	 * Restituisce i nemici registrati nella cella specificata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return La lista dei nemici registrati nella cella.
+	 */
+	public List<Enemy> getEnemies(int x, int y) {
+		return enemies.get(index(x, y));
+	}
+
+	/**
+	 * Restituisce la colonna della cella che contiene la coordinata x in pixel specificata,
+	 * limitata ai bordi del terreno.
+	 *
+	 * @param x La coordinata x in pixel.
+	 * @return La colonna della cella.
+	 */
+	public int column(int x) {
+		return Math.max(0, Math.min(width - 1, x / TILESIZE));
+	}
+
+	/**
+	 * Restituisce la riga della cella che contiene la coordinata y in pixel specificata,
+	 * limitata ai bordi del terreno.
+	 *
+	 * @param y La coordinata y in pixel.
+	 * @return La riga della cella.
+	 */
+	public int row(int y) {
+		return Math.max(0, Math.min(height - 1, y / TILESIZE));
+	}
+
+	/**
+	 * Svuota l'indice, rimuovendo tutte le bombe, i power-up, le esplosioni e i nemici registrati.
+	 */
+	public void clear() {
+		for (int i = 0; i < width * height; i++) {
+			bombs[i] = null;
+			powerUps[i] = null;
+			explosions[i] = 0;
+			enemies.get(i).clear();
+		}
+		enemyCells.clear();
+	}
+
+	/**
+	 * Imposta l'intervallo di celle sovrapposte dal collider specificato.
+	 *
+	 * @param cells Il rettangolo (in celle) da aggiornare.
+	 * @param x La coordinata x del collider (in pixel).
+	 * @param y La coordinata y del collider (in pixel).
+	 * @param width La larghezza del collider.
+	 * @param height L'altezza del collider.
+	 */
+	private void setCells(Rectangle cells, int x, int y, int width, int height) {
+		int left   = column(x);
+		int top    = row(y);
+		int right  = column(x + width - 1);
+		int bottom = row(y + height - 1);
+		cells.setBounds(left, top, right - left + 1, bottom - top + 1);
+	}
+
+	/**
+	 * Aggiunge un nemico alle liste delle celle specificate.
+	 *
+	 * @param enemy Il nemico da aggiungere.
+	 * @param cells L'intervallo di celle.
+	 */
+	private void addToCells(Enemy enemy, Rectangle cells) {
+		for (int y = cells.y; y < cells.y + cells.height; y++) {
+			for (int x = cells.x; x < cells.x + cells.width; x++) {
+				enemies.get(index(x, y)).add(enemy);
+			}
+		}
+	}
+
+	/**
+	 * Rimuove un nemico dalle liste delle celle specificate (confronto per identita').
+	 *
+	 * @param enemy Il nemico da rimuovere.
+	 * @param cells L'intervallo di celle.
+	 */
+	private void removeFromCells(Enemy enemy, Rectangle cells) {
+		for (int y = cells.y; y < cells.y + cells.height; y++) {
+			for (int x = cells.x; x < cells.x + cells.width; x++) {
+				List<Enemy> cell = enemies.get(index(x, y));
+				for (int i = 0; i < cell.size(); i++) {
+					if (cell.get(i) == enemy) {
+						cell.remove(i);
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Restituisce l'indice lineare della cella specificata.
+	 *
+	 * @param x La coordinata x della cella.
+	 * @param y La coordinata y della cella.
+	 * @return L'indice della cella.
+	 */
+	private int index(int x, int y) {
+		return y * width + x;
+	}
+}
@@ -20,8 +20,11 @@ public class Player extends Observable {
 	private static Player instance;
 	
 	private long currentTime;
-	private long collisionCooldown;
 	private final long COLLISION_COOLDOWN = 6000;
+	private final ScheduledEvent collisionCooldown = new ScheduledEvent(() -> damaged = false);
+	private final long DYING_DURATION = 1000;
+	private final long WINNING_DURATION = 1000;
+	private final ScheduledEvent animationEnd = new ScheduledEvent(() -> animationFinished = true);
 	
 	private int x;
 	private int y;
@@ -34,9 +37,11 @@ public class Player extends Observable {
 	private int explosionRadius;
 	private Move direction;
 	private Rectangle boxCollider;
+	private Rectangle nextCollider;
 	private boolean moving;
 	private boolean alive;
 	private boolean damaged;
+	private boolean animationFinished;
 	
 	private AnimationState animationState;
 	
@@ -75,6 +80,7 @@ public class Player extends Observable {
 		alive = true;
 		moving = false;
 		levelFinished = false;
+		animationFinished = false;
 		
 		hp = 5;
 		speed = 3;
@@ -84,14 +90,15 @@ public class Player extends Observable {
 		direction = Move.DOWN;
 		animationState = AnimationState.IDLE;
 		boxCollider = new Rectangle(x, y, TILESIZE, TILESIZE);
+		nextCollider = new Rectangle(boxCollider);
 	}
 	
 	/**
 	 * Rende il giocatore immortale
 	 */
 	public void setImmortal() {
-		collisionCooldown = System.currentTimeMillis();
 		damaged = true;
+		floor.getScheduler().schedule(collisionCooldown, TickScheduler.toTicks(COLLISION_COOLDOWN));
 	}
 	
     /**
@@ -157,6 +164,30 @@ public class Player extends Observable {
 		animationState = AnimationState.IDLE;
 	}
 	
+    /**
+     * Piazza una bomba al centro della cella in cui si trova il giocatore.
+     * La bomba e' piazzata solo se il giocatore ha ancora bombe disponibili e la cella corrente e' di tipo {@code FLOOR}.
+     * Appena piazzata, la collisione del giocatore con la bomba resta disattivata fin quando non si allontana a sufficienza.
+     *
+     * @return La bomba piazzata, oppure {@code null} se non e' stato possibile piazzarla.
+     */
+	public Bomb placeBomb() {
+		
+		int cellX = (x + boxCollider.width / 2) / TILESIZE;
+		int cellY = (y + boxCollider.height / 2) / TILESIZE;
+		
+		if (alive && currentBombs > 0 && floor.checkFloor(cellX, cellY)) {
+			
+			Bomb bomb = new Bomb(cellX, cellY, explosionRadius, this);
+			if (floor.addBomb(bomb)) {
+				currentBombs--;
+				bomb.setCollisionEnabled(false);
+				return bomb;
+			}
+		}
+		return null;
+	}
+	
     /**
      * Riduce i punti vita del giocatore e gestisce gli effetti collaterali come la diminuzione della velocit.
      * Se i punti vita raggiungono zero, il giocatore muore.
@@ -175,6 +206,7 @@ public class Player extends Observable {
 			}
 			
 			damaged = true;
+			floor.getScheduler().schedule(collisionCooldown, TickScheduler.toTicks(COLLISION_COOLDOWN));
 			
 			// Morte
 			if (hp <= 0) {
@@ -186,25 +218,29 @@ public class Player extends Observable {
 	
 	/**
 	 * Gestisce la morte del giocatore.
-	 * Imposta lo stato dell'animazione a {@code DYING}
+	 * Imposta lo stato dell'animazione a {@code DYING} e ne programma la conclusione.
 	 */
 	public void die() {
 		if (alive) {
 			stop();
 			animationState = AnimationState.DYING;
 			alive = false;
+			floor.getScheduler().schedule(animationEnd, TickScheduler.toTicks(DYING_DURATION));
 			modified();
 		}
 	}
 	
     /**
      * Completa il livello corrente.
-     * Imposta lo stato dell'animazione a {@code WINNING}
+     * Imposta lo stato dell'animazione a {@code WINNING} e ne programma la conclusione.
      */
 	public void finishLevel() {
 		if (alive) {
 			stop();
 			animationState = AnimationState.WINNING;
+			if (!levelFinished) {
+				floor.getScheduler().schedule(animationEnd, TickScheduler.toTicks(WINNING_DURATION));
+			}
 			levelFinished = true;
 		}
 	}
@@ -216,6 +252,9 @@ public class Player extends Observable {
 		
     	playerCenterX = (x + boxCollider.width / 2) / TILESIZE * TILESIZE;
         playerCenterY = (y + boxCollider.height / 2) / TILESIZE * TILESIZE;
+        
+        //La mappa delle distanze viene ricalcolata solo se il giocatore ha cambiato cella
+        floor.getFlowField().setTarget(playerCenterX / TILESIZE, playerCenterY / TILESIZE);
 		
         //Collisione con l'uscita
 		if (floor.collidesWithExit(boxCollider)) {
@@ -227,13 +266,11 @@ public class Player extends Observable {
 		}
 		
 		
-		//Sistema di cooldown dopo aver subito una hit da Enemy o Explosion
-		currentTime = System.currentTimeMillis();
-		if (currentTime - collisionCooldown >= COLLISION_COOLDOWN) {
-			damaged = false;
+		//Sistema di cooldown dopo aver subito una hit da Enemy o Explosion (il cooldown e' gestito dallo scheduler)
+		currentTime = floor.getScheduler().getCurrentTime();
+		if (!damaged) {
 			if (floor.collidesWithEnemies(boxCollider, null) || floor.collidesWithExplosions(boxCollider)) {
 				damage();
-				collisionCooldown = currentTime;
 			}
 		}
         
@@ -249,11 +286,11 @@ public class Player extends Observable {
 	    
         //Sistema di movimento
 	    if (moving) {
-	        Rectangle nextCollisionBox = new Rectangle(boxCollider);
-	        nextCollisionBox.translate(dx * speed, dy * speed);
+	        nextCollider.setBounds(boxCollider);
+	        nextCollider.translate(dx * speed, dy * speed);
 	        //Se non vengono rilevate collisioni con Blocchi o Bombe -> Movimento
-	        if (!floor.playerCollidesWithBombs(nextCollisionBox) 
-	         && !floor.collidesWithBlocks(nextCollisionBox)) {
+	        if (!floor.playerCollidesWithBombs(nextCollider) 
+	         && !floor.collidesWithBlocks(nextCollider)) {
 	            x += dx * speed;
 	            y += dy * speed;
 	        }
@@ -269,7 +306,7 @@ public class Player extends Observable {
 	    
 	    if (alive) {
 		    setChanged();
-		    notifyObservers(currentTime);
+		    notifyObservers();
 	    }
 	}
 
@@ -427,6 +464,16 @@ public class Player extends Observable {
 		return damaged;
 	}
 	
+    /**
+     * Restituisce lo stato di una delle animazioni a ciclo unico (morte o vittoria) del giocatore.
+     * La durata delle animazioni e' scandita dalla simulazione, indipendentemente dalla vista.
+     *
+     * @return {@code true} se l'animazione e' terminata, {@code false} altrimenti.
+     */
+	public boolean isAnimationFinished() {
+		return animationFinished;
+	}
+	
     /**
      * Restituisce lo stato di vita del giocatore.
      *
@@ -463,6 +510,15 @@ public class Player extends Observable {
 		this.animationState = animationState;
 	}
 	
+	/**
+	 * Restituisce il tempo della simulazione all'ultimo aggiornamento del giocatore.
+	 * 
+	 * @return Il tempo corrente della simulazione, in millisecondi.
+	 */
+	public long getCurrentTime() {
+		return currentTime;
+	}
+	
 	/**
 	 * Restituisce la direzione corrente del giocatore.
 	 * 
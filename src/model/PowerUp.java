@@ -3,6 +3,7 @@ package model;
 import java.awt.Rectangle;
 import java.util.Observable;
 import utilities.Constants;
+import utilities.GameRandom;
 
 /** Classe che rappresenta un power-up nel gioco.
  * 
@@ -44,10 +45,10 @@ public class PowerUp extends Observable {
 	}
 	
 	/**
-	 * Genera casualmente il tipo di power-up.
+	 * Genera casualmente il tipo di power-up, con il generatore dei power-up di {@code GameRandom}.
 	 */
 	public void generateRandomType() {
-		double randomValue = Math.random() * 100;
+		double randomValue = GameRandom.getInstance().get(GameRandom.Stream.POWER_UPS).nextDouble() * 100;
 		double cumulativeProbability = 0;
 		for (PowerUpType type : PowerUpType.values()) {
 			cumulativeProbability += type.getSpawnPercent();
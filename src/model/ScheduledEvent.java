@@ -0,0 +1,87 @@
+package model;
+
+/**
+ * Classe che rappresenta un evento temporizzato gestito dal {@code TickScheduler}.
+ * Associa un'azione al tick di gioco in cui deve essere eseguita.
+ *
+ * Un evento pu essere riprogrammato pi volte: in questo modo le entit che lo possiedono
+ * (ad esempio la miccia di una bomba o il cooldown dopo una hit) non allocano nuovi oggetti a ogni utilizzo.
+ *
+ * @author Lorenzo Zanda
+ * @see TickScheduler
+ */
+public class ScheduledEvent implements Comparable<ScheduledEvent> {
+
+	private final Runnable action;
+	private long tick;
+	private long sequence;
+	private boolean scheduled;
+
+	/**
+	 * Costruisce un nuovo {@code ScheduledEvent} associato all'azione specificata.
+	 *
+	 * @param action L'azione da eseguire allo scadere dell'evento.
+	 */
+	public ScheduledEvent(Runnable action) {
+		this.action = action;
+	}
+
+	/**
+	 * Esegue l'azione associata all'evento.
+	 */
+	void fire() {
+		action.run();
+	}
+
+	/**
+	 * Restituisce il tick in cui l'evento verr eseguito.
+	 *
+	 * @return Il tick di esecuzione dell'evento.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Imposta il tick di esecuzione e il numero di sequenza dell'evento.
+	 *
+	 * @param tick Il tick di esecuzione.
+	 * @param sequence Il numero di sequenza, usato per ordinare eventi programmati nello stesso tick.
+	 */
+	void setTick(long tick, long sequence) {
+		this.tick = tick;
+		this.sequence = sequence;
+	}
+
+	/**
+	 * Verifica se l'evento  attualmente in attesa di essere eseguito.
+	 *
+	 * @return {@code true} se l'evento  programmato, {@code false} altrimenti.
+	 */
+	public boolean isScheduled() {
+		return scheduled;
+	}
+
+	/**
+	 * Imposta lo stato di programmazione dell'evento.
+	 *
+	 * @param scheduled {@code true} se l'evento  programmato, {@code false} altrimenti.
+	 */
+	void setScheduled(boolean scheduled) {
+		this.scheduled = scheduled;
+	}
+
+	/**
+	 * Confronta due eventi in base al tick di esecuzione e, a parit di tick, all'ordine di programmazione.
+	 *
+	 * @param other L'evento da confrontare.
+	 * @return Un valore negativo, zero o positivo se questo evento precede, coincide o segue l'altro.
+	 */
+	@Override
+	public int compareTo(ScheduledEvent other) {
+		if (tick != other.tick) {
+			return Long.compare(tick, other.tick);
+		}
+		return Long.compare(sequence, other.sequence);
+	}
+}
@@ -0,0 +1,165 @@
+package model;
+
+import java.util.PriorityQueue;
+import utilities.Constants;
+
+/**
+ * Classe che implementa l'orologio della simulazione.
+ * Mantiene una coda con priorit di eventi temporizzati ordinati per numero di tick
+ * e li esegue quando il tick corrente li raggiunge.
+ *
+ * Il tempo avanza soltanto quando il ciclo di gioco invoca {@link #tick()}: la simulazione pu quindi essere
+ * messa in pausa ({@link #setPaused(boolean)}) o fatta avanzare velocemente ({@link #advance(long)}).
+ * Tutti gli eventi vengono eseguiti sul thread che fa avanzare l'orologio.
+ *
+ * @author Lorenzo Zanda
+ * @see ScheduledEvent
+ */
+public class TickScheduler {
+
+	private PriorityQueue<ScheduledEvent> events;
+	private long currentTick;
+	private long sequence;
+	private boolean paused;
+
+	/**
+	 * Costruisce un nuovo {@code TickScheduler} con l'orologio fermo al tick zero.
+	 */
+	public TickScheduler() {
+		events = new PriorityQueue<ScheduledEvent>();
+	}
+
+	/**
+	 * Converte una durata in millisecondi nel numero di tick corrispondente, arrotondando per eccesso.
+	 *
+	 * @param millis La durata in millisecondi.
+	 * @return Il numero di tick corrispondente.
+	 */
+	public static long toTicks(long millis) {
+		return (millis * Constants.FPS + 999) / 1000;
+	}
+
+	/**
+	 * Programma l'evento specificato dopo il numero di tick indicato.
+	 * Se l'evento era gi programmato viene spostato al nuovo tick.
+	 *
+	 * @param event L'evento da programmare.
+	 * @param delayTicks Il numero di tick di attesa (almeno 1).
+	 */
+	public synchronized void schedule(ScheduledEvent event, long delayTicks) {
+		if (event.isScheduled()) {
+			events.remove(event);
+		}
+		event.setTick(currentTick + Math.max(1, delayTicks), sequence++);
+		event.setScheduled(true);
+		events.add(event);
+	}
+
+	/**
+	 * Programma l'azione specificata dopo il numero di tick indicato.
+	 *
+	 * @param action L'azione da eseguire.
+	 * @param delayTicks Il numero di tick di attesa (almeno 1).
+	 * @return L'evento creato, utilizzabile per annullare l'azione.
+	 */
+	public synchronized ScheduledEvent schedule(Runnable action, long delayTicks) {
+		ScheduledEvent event = new ScheduledEvent(action);
+		schedule(event, delayTicks);
+		return event;
+	}
+
+	/**
+	 * Annulla l'evento specificato, se programmato.
+	 *
+	 * @param event L'evento da annullare.
+	 */
+	public synchronized void cancel(ScheduledEvent event) {
+		if (event.isScheduled()) {
+			events.remove(event);
+			event.setScheduled(false);
+		}
+	}
+
+	/**
+	 * Fa avanzare l'orologio di un tick, a meno che la simulazione non sia in pausa.
+	 * Esegue gli eventi scaduti.
+	 */
+	public synchronized void tick() {
+		if (!paused) {
+			advance(1);
+		}
+	}
+
+	/**
+	 * Fa avanzare l'orologio del numero di tick specificato, eseguendo in ordine tutti gli eventi scaduti.
+	 * L'avanzamento avviene anche se la simulazione  in pausa.
+	 *
+	 * @param ticks Il numero di tick di cui avanzare.
+	 */
+	public synchronized void advance(long ticks) {
+		for (long i = 0; i < ticks; i++) {
+			currentTick++;
+			while (!events.isEmpty() && events.peek().getTick() <= currentTick) {
+				ScheduledEvent event = events.poll();
+				event.setScheduled(false);
+				event.fire();
+			}
+		}
+	}
+
+	/**
+	 * Annulla tutti gli eventi programmati.
+	 */
+	public synchronized void clear() {
+		for (ScheduledEvent event : events) {
+			event.setScheduled(false);
+		}
+		events.clear();
+	}
+
+	/**
+	 * Annulla tutti gli eventi programmati e riporta l'orologio al tick zero, ad esempio quando il terreno viene ricostruito.
+	 * Le scelte casuali dei nemici dipendono dal tick: ripartendo da zero, lo stesso seme riproduce la stessa partita.
+	 */
+	public synchronized void reset() {
+		clear();
+		currentTick = 0;
+		sequence = 0;
+	}
+
+	/**
+	 * Restituisce il tick corrente della simulazione.
+	 *
+	 * @return Il tick corrente.
+	 */
+	public synchronized long getCurrentTick() {
+		return currentTick;
+	}
+
+	/**
+	 * Restituisce il tempo corrente della simulazione in millisecondi.
+	 *
+	 * @return Il tempo della simulazione in millisecondi.
+	 */
+	public synchronized long getCurrentTime() {
+		return currentTick * 1000 / Constants.FPS;
+	}
+
+	/**
+	 * Verifica se la simulazione  in pausa.
+	 *
+	 * @return {@code true} se la simulazione  in pausa, {@code false} altrimenti.
+	 */
+	public synchronized boolean isPaused() {
+		return paused;
+	}
+
+	/**
+	 * Mette in pausa o riprende la simulazione.
+	 *
+	 * @param paused {@code true} per mettere in pausa, {@code false} per riprendere.
+	 */
+	public synchronized void setPaused(boolean paused) {
+		this.paused = paused;
+	}
+}
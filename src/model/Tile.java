@@ -6,6 +6,9 @@ import java.util.Observable;
  * Classe che rappresenta una cella all'interno del terreno di gioco.
  * Estende la classe {@code Observable} per notificare gli osservatori riguardo le sue modifiche.
  * 
+ * Quando una cella distruttibile viene colpita, la sua distruzione dura un numero fisso di tick,
+ * al termine dei quali la cella diventa pavimento.
+ * 
  * @author Lorenzo Zanda
  * @see Observable
  */
@@ -14,6 +17,9 @@ public class Tile extends Observable{
 	private int x, y;
 	private TileType type;
 	private boolean hit;
+	private int hitTicks;
+	
+	private static final int DESTRUCTION_TICKS = (int)TickScheduler.toTicks(800);
 	
     /**
      * Costruisce un nuovo oggetto {@code Tile} con le coordinate e il tipo specificati.
@@ -38,6 +44,31 @@ public class Tile extends Observable{
 		notifyObservers();
 	}
 	
+    /**
+     * Aggiorna la cella per un tick della simulazione.
+     * Se la cella e' stata colpita ne fa avanzare la distruzione e, una volta conclusa, la trasforma in pavimento.
+     */
+	public void update() {
+		if (hit) {
+			hitTicks++;
+			if (hitTicks >= DESTRUCTION_TICKS) {
+				type = TileType.FLOOR;
+				hit = false;
+				hitTicks = 0;
+			}
+			modified();
+		}
+	}
+	
+    /**
+     * Restituisce l'avanzamento della distruzione della cella.
+     *
+     * @return Un valore compreso tra 0 (appena colpita) e 1 (distrutta).
+     */
+	public double getDestructionProgress() {
+		return Math.min(1.0, (double)hitTicks / DESTRUCTION_TICKS);
+	}
+	
     /**
      * Restituisce la coordinata x della cella.
      *
@@ -1,7 +1,8 @@
 package model;
 
 import java.util.Observable;
-import java.util.Random;
+import java.util.SplittableRandom;
+import utilities.GameRandom;
 
 /**
  * Classe che gestisce le informazioni relative all'utente nel gioco.
@@ -65,8 +66,9 @@ public class User extends Observable {
      * @param level Livello corrente dell'utente.
      */
 	public void addExpPoints(int level) {
-		int levelExp = new Random().nextInt(1, ((level+1)*100)+1);
-		expPoints += new Random().nextInt(100, 301) + levelExp;
+		SplittableRandom random = GameRandom.getInstance().get(GameRandom.Stream.EXPERIENCE);
+		int levelExp = random.nextInt(1, ((level+1)*100)+1);
+		expPoints += random.nextInt(100, 301) + levelExp;
 		checkLevelIncreased();
 		setChanged();
 		notifyObservers();
@@ -88,7 +90,7 @@ public class User extends Observable {
 	public void addGamesWon() {
 		gamesPlayed++;
 		gamesWon++;
-		expPoints += new Random().nextInt(1000, 1501);
+		expPoints += GameRandom.getInstance().get(GameRandom.Stream.EXPERIENCE).nextInt(1000, 1501);
 		checkLevelIncreased();
 		setChanged();
 		notifyObservers();
@@ -11,6 +11,39 @@ public class Constants {
 	 * Frame per secondo.
 	 */
 	public static final int FPS = 60;
+	/**
+	 * Numero massimo di tick logici eseguibili dal ciclo di gioco in una singola iterazione per recuperare il ritardo.
+	 */
+	public static final int MAX_CATCH_UP_TICKS = 5;
+	/**
+	 * Rendering attivo del terreno di gioco (Canvas con BufferStrategy pilotato dal ciclo di gioco) invece del ridisegno passivo di Swing.
+	 * Si abilita con la proprieta' di sistema {@code -Djbomberman.activeRendering=true}.
+	 */
+	public static final boolean ACTIVE_RENDERING = Boolean.getBoolean("jbomberman.activeRendering");
+	/**
+	 * Numero di buffer usati dal rendering attivo (2 = double buffering, 3 = triple buffering).
+	 * Si imposta con la proprieta' di sistema {@code -Djbomberman.renderBuffers}.
+	 */
+	public static final int RENDER_BUFFERS = Integer.getInteger("jbomberman.renderBuffers", 2);
+	/**
+	 * Rendering a risoluzione nativa: il terreno di gioco viene disegnato con sprite da 16 pixel in un buffer fuori schermo,
+	 * scalato una sola volta (nearest neighbour) sul pannello con il fattore {@link #RENDER_SCALE}.
+	 * Si abilita con la proprieta' di sistema {@code -Djbomberman.nativeRendering=true}.
+	 */
+	public static final boolean NATIVE_RENDERING = Boolean.getBoolean("jbomberman.nativeRendering");
+	/**
+	 * Fattore di scala intero del terreno di gioco e dell'HUD sullo schermo.
+	 * Nel rendering a risoluzione nativa si imposta con la proprieta' di sistema {@code -Djbomberman.renderScale}
+	 * (il valore predefinito e' {@code SCALE}); negli altri casi gli sprite sono pre-scalati ed e' sempre {@code SCALE}.
+	 */
+	public static final int RENDER_SCALE = NATIVE_RENDERING
+			? Math.max(1, Integer.getInteger("jbomberman.renderScale", Constants.SCALE))
+			: Constants.SCALE;
+	/**
+	 * Numero di thread del {@code ForkJoinPool} che calcola in parallelo le intenzioni dei nemici (0 = aggiornamento seriale).
+	 * Si imposta con la proprieta' di sistema {@code -Djbomberman.enemyThreads}.
+	 */
+	public static final int ENEMY_THREADS = Math.max(0, Integer.getInteger("jbomberman.enemyThreads", 0));
 	/**
 	 * Dimensioni della cella.
 	 */
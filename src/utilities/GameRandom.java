@@ -0,0 +1,91 @@
+package utilities;
+
+import java.util.SplittableRandom;
+
+/**
+ * Classe che fornisce i generatori di numeri casuali del gioco a partire da un unico seme.
+ * Utilizza il pattern "singleton" per garantire un'unica istanza globale.
+ *
+ * Ogni sottosistema ({@link Stream}) ha un proprio {@code SplittableRandom}, ottenuto suddividendo il generatore
+ * radice sempre nello stesso ordine: le estrazioni di un sottosistema non spostano quelle degli altri
+ * (ad esempio i punti esperienza non cambiano la mappa del livello successivo).
+ * Poiche' tutte le tempistiche del gioco sono scandite in tick, lo stesso seme e la stessa sequenza di comandi
+ * del giocatore riproducono esattamente la stessa partita.
+ *
+ * Il seme si imposta con la proprieta' di sistema {@code -Djbomberman.seed}; in sua assenza ne viene scelto uno casuale.
+ * I generatori non sono thread-safe: vanno utilizzati dal thread che fa avanzare la simulazione.
+ *
+ * @author Lorenzo Zanda
+ */
+public class GameRandom {
+
+	/**
+	 * Sottosistemi che estraggono numeri casuali, ciascuno con il proprio generatore.
+	 */
+	public enum Stream {
+		/** Disposizione dei blocchi, dell'uscita e dei nemici. */
+		MAP,
+		/** Presenza e tipo dei power-up. */
+		POWER_UPS,
+		/** Semi dei terreni, da cui derivano le scelte dei nemici durante la simulazione. */
+		SIMULATION,
+		/** Punti esperienza assegnati all'utente. */
+		EXPERIENCE
+	}
+
+	private static GameRandom instance;
+
+	private long seed;
+	private SplittableRandom[] streams = new SplittableRandom[Stream.values().length];
+
+    /**
+     * Restituisce l'istanza singola di {@code GameRandom} (singleton pattern).
+     *
+     * @return L'istanza di {@code GameRandom}.
+     */
+	public static synchronized GameRandom getInstance() {
+		if (instance == null)
+			instance = new GameRandom();
+		return instance;
+	}
+
+    /**
+     * Costruttore privato della classe {@code GameRandom}, che usa il seme della proprieta' {@code jbomberman.seed} se presente.
+     */
+	private GameRandom() {
+		Long property = Long.getLong("jbomberman.seed");
+		setSeed(property != null ? property : new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Imposta il seme e ricrea i generatori di tutti i sottosistemi.
+	 *
+	 * @param seed Il nuovo seme.
+	 */
+	public synchronized void setSeed(long seed) {
+		this.seed = seed;
+		SplittableRandom root = new SplittableRandom(seed);
+		for (Stream stream : Stream.values()) {
+			streams[stream.ordinal()] = root.split();
+		}
+	}
+
+	/**
+	 * Restituisce il seme corrente, da cui e' possibile riprodurre la partita.
+	 *
+	 * @return Il seme corrente.
+	 */
+	public synchronized long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Restituisce il generatore del sottosistema specificato.
+	 *
+	 * @param stream Il sottosistema.
+	 * @return Il generatore del sottosistema.
+	 */
+	public synchronized SplittableRandom get(Stream stream) {
+		return streams[stream.ordinal()];
+	}
+}
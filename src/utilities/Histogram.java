@@ -0,0 +1,140 @@
+package utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Classe che implementa un istogramma a bucket log-lineari, sul modello di HdrHistogram.
+ *
+ * I valori (tipicamente durate in nanosecondi) vengono registrati in bucket di ampiezza crescente:
+ * i valori minori di 64 hanno un bucket ciascuno, quelli maggiori vengono raggruppati per potenza di due
+ * in 32 sotto-bucket, con un errore relativo massimo di circa il 3%.
+ * La memoria occupata e' fissa, la registrazione non alloca e puo' avvenire da piu' thread contemporaneamente;
+ * i percentili vengono calcolati scorrendo i bucket al momento della lettura.
+ *
+ * @author Lorenzo Zanda
+ */
+public class Histogram {
+
+	/** Numero di bit della mantissa dei bucket log-lineari. */
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** I valori minori di questa soglia hanno un bucket ciascuno. */
+	private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+	private static final int BUCKETS = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Registra un valore. I valori negativi vengono registrati come zero.
+	 *
+	 * @param value Il valore da registrare.
+	 */
+	public void record(long value) {
+
+		value = Math.max(0, value);
+		counts.incrementAndGet(indexOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+
+		long current;
+		while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+		}
+	}
+
+	/**
+	 * Restituisce il numero di valori registrati.
+	 *
+	 * @return Il numero di valori.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Restituisce il valore massimo registrato.
+	 *
+	 * @return Il valore massimo, oppure 0 se l'istogramma e' vuoto.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Restituisce la media dei valori registrati.
+	 *
+	 * @return La media, oppure 0 se l'istogramma e' vuoto.
+	 */
+	public double getMean() {
+		long n = count.get();
+		return (n == 0) ? 0 : (double) sum.get() / n;
+	}
+
+	/**
+	 * Restituisce il valore al percentile specificato, approssimato per eccesso al limite superiore del suo bucket.
+	 *
+	 * @param percentile Il percentile, compreso tra 0 e 100.
+	 * @return Il valore al percentile, oppure 0 se l'istogramma e' vuoto.
+	 */
+	public long getPercentile(double percentile) {
+
+		long n = count.get();
+		if (n == 0) return 0;
+
+		long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * n));
+		long cumulative = 0;
+
+		for (int i=0; i < BUCKETS; i++) {
+			cumulative += counts.get(i);
+			if (cumulative >= target) {
+				return Math.min(highestValueOf(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Azzera l'istogramma.
+	 */
+	public void reset() {
+		for (int i=0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		count.set(0);
+		sum.set(0);
+		max.set(0);
+	}
+
+	/**
+	 * Restituisce l'indice del bucket che contiene il valore specificato.
+	 *
+	 * @param value Il valore, non negativo.
+	 * @return L'indice del bucket.
+	 */
+	private static int indexOf(long value) {
+
+		if (value < LINEAR_LIMIT) return (int) value;
+
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int mantissa = (int) (value >>> shift);
+		return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+	}
+
+	/**
+	 * Restituisce il valore piu' alto contenuto nel bucket specificato.
+	 *
+	 * @param index L'indice del bucket.
+	 * @return Il limite superiore del bucket.
+	 */
+	private static long highestValueOf(int index) {
+
+		if (index < LINEAR_LIMIT) return index;
+
+		int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+		long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+		return ((mantissa + 1) << shift) - 1;
+	}
+}
@@ -1,13 +1,9 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.Bomb;
 import utilities.Constants;
 
@@ -27,8 +23,8 @@ public class BombView implements Observer {
     /** La coordinata y della bomba nel gioco. */
 	private int y;
 	
-    /** Array di immagini che compongono l'animazione della bomba. */
-	private BufferedImage[] bombAnim;
+    /** Immagini che compongono l'animazione della bomba, condivise da tutte le bombe. */
+	private static final List<BufferedImage> bombAnim = setSprites();
 	
     /** Frame corrente dell'animazione della bomba. */
 	private double currentFrame;
@@ -40,27 +36,24 @@ public class BombView implements Observer {
      * Costruttore della classe {@code BombView}.
      */
 	public BombView() {
-		bombAnim = new BufferedImage[6];
-		setSprites();
 	}
 	
 	 /**
      * Si occupa di gestire gli sprite riguardanti la bomba.
+     * L'animazione si restringe e si espande: 2, 1, 0, 0, 1, 2.
+     *
+     * @return La lista immutabile dei frame dell'animazione.
      */
-	private void setSprites() {
+	private static List<BufferedImage> setSprites() {
 		
 		int tileSize = Constants.TILESIZE;
 		
-		try {
-			BufferedImage bombSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/bomb-sheet.png"));	
-			for (int i = 0; i < 3; i++) {
-				bombAnim[i] = bombSheet.getSubimage((2-i)*tileSize, 0, tileSize, tileSize+2);
-				bombAnim[i+3] = bombSheet.getSubimage(i*tileSize, 0, tileSize, tileSize+2);
-			}
-			Collections.reverse(Arrays.asList(bombAnim));
-		} catch(IOException e) {
-			e.printStackTrace();
+		BufferedImage[] frames = new BufferedImage[6];
+		for (int i = 0; i < 3; i++) {
+			frames[i] = SpriteAtlas.getFrame(SpriteAtlas.BOMB_SHEET, (2-i)*tileSize, 0, tileSize, tileSize+2);
+			frames[5-i] = frames[i];
 		}
+		return List.of(frames);
 	}
 	
     /**
@@ -70,7 +63,7 @@ public class BombView implements Observer {
      */
 	public void updateAnimation(double animationSpeed) {
 		
-		if (currentFrame >= bombAnim.length) {
+		if (currentFrame >= bombAnim.size()) {
 			currentFrame = 0;
 		}
 		else {
@@ -85,7 +78,7 @@ public class BombView implements Observer {
      */
 	public BufferedImage getCurrentFrame() {
 		updateAnimation(0.1);
-		return bombAnim[(int)currentFrame % bombAnim.length];
+		return bombAnim.get((int)currentFrame % bombAnim.size());
 	}
 	
 	/**
@@ -103,12 +96,12 @@ public class BombView implements Observer {
     /**
      * Disegna la bomba.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		
 		int bombX = x * TILESIZE;
 		int bombY = y * TILESIZE;
-		g2.drawImage(getCurrentFrame(), bombX, bombY, TILESIZE, TILESIZE, null);
+		frame.add(getCurrentFrame(), bombX, bombY);
 	}
 }
@@ -4,6 +4,7 @@ import java.awt.BorderLayout;
 import java.awt.CardLayout;
 import javax.swing.*;
 import controller.AudioManager;
+import utilities.Constants;
 
 /**
  * Classe che rappresenta il frame principale del gioco.
@@ -64,6 +65,9 @@ public class BomberManFrame extends JFrame {
 		statsPanel = new StatsPanel();
 		gameOverPanel = new GameOverPanel();
 		gamePanel = new BomberManPanel();
+		if (Constants.ACTIVE_RENDERING) {
+			gamePanel.enableActiveRendering(Constants.RENDER_BUFFERS);
+		}
 		hudPanel = new HudPanel();
 		container = new JPanel();
 		loginPanel = new LoginPanel();
@@ -81,6 +85,8 @@ public class BomberManFrame extends JFrame {
 		cardPanel.add(victoryPanel, "Victory");
 		
 		add(cardPanel, BorderLayout.CENTER);
+		
+		//La finestra contiene la schermata piu' grande: il menu, oppure terreno di gioco e HUD scalati di Constants.RENDER_SCALE
 		pack();
 		
 		AudioManager.getInstance().play("/audio/main-title.wav");
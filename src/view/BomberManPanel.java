@@ -1,17 +1,29 @@
 package view;
 
 import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.util.ArrayList;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
 import controller.GameController;
+import controller.GameMetrics;
 import model.Bomb;
+import model.Exit;
 import model.Explosion;
+import model.Floor;
+import model.Player;
 import model.TileType;
 import utilities.Constants;
 import model.PowerUp;
@@ -23,10 +35,17 @@ import javax.swing.*;
  * Classe che rappresenta il pannello principale del gioco.
  * Questo pannello  responsabile di disegnare gli elementi del gioco sulla schermata.
  * 
+ * Il pannello osserva le entita' di gioco ({@code Player}, {@code Enemy}, {@code Bomb}, {@code Explosion}, {@code Tile})
+ * e accumula le regioni modificate dalle loro notifiche: ad ogni frame viene ridisegnata solo l'area sporca.
+ * 
+ * Il disegno non legge mai le liste del {@code Floor}: il ciclo di gioco pubblica al termine di ogni frame
+ * una {@code RenderSnapshot} immutabile, che l'Event Dispatch Thread disegna.
+ * 
  * @author Lorenzo Zanda
  * @see JPanel
+ * @see Observer
  */
-public class BomberManPanel extends JPanel{
+public class BomberManPanel extends JPanel implements Observer {
 	
 	/**
 	 * 
@@ -41,6 +60,15 @@ public class BomberManPanel extends JPanel{
 	
 	/** Livello corrente del gioco. */
 	private int level;
+	
+	/** Flag che indica se il gioco e' in pausa. */
+	private boolean paused;
+	
+	/** Indica se l'overlay delle metriche prestazionali e' visibile. */
+	private volatile boolean metricsVisible;
+	
+	/** Regione del pannello occupata dall'overlay delle metriche. */
+	private final Rectangle METRICS_BOUNDS = new Rectangle(8, 8, 300, 154);
 
 	/** Mappa che associa le bombe da disegnare alle rispettive viste. */
 	private Map<Bomb, BombView> bombsMap;
@@ -66,6 +94,45 @@ public class BomberManPanel extends JPanel{
 	/** Controller del gioco associato al pannello. */
 	private GameController controller;
 	
+	/** Sfondo pre-renderizzato con il pavimento e le celle indistruttibili. */
+	private BufferedImage background;
+	
+	/** Versione della disposizione del terreno con cui e' stato disegnato lo sfondo. */
+	private int backgroundVersion;
+	
+	/** Livello con cui e' stato disegnato lo sfondo. */
+	private int backgroundLevel;
+	
+	/** Dimensione di ogni cella nel gioco. */
+	private final int TILESIZE = Constants.SCALED_TILESIZE;
+	
+	/** Margine attorno agli sprite in movimento, pari al massimo spostamento possibile tra due frame. */
+	private final int MOVEMENT_MARGIN = Constants.MAX_SPEED * Constants.MAX_CATCH_UP_TICKS;
+	
+	/** Rapporto tra le coordinate del modello e i pixel degli sprite: {@code Constants.SCALE} nel rendering a risoluzione nativa, 1 altrimenti. */
+	private final int PIXEL_RATIO = Constants.SCALE / SpriteAtlas.SPRITE_SCALE;
+	
+	/** Dimensione di ogni cella negli sprite, 16 pixel nel rendering a risoluzione nativa. */
+	private final int SPRITE_TILESIZE = TILESIZE / PIXEL_RATIO;
+	
+	/** Buffer fuori schermo del rendering a risoluzione nativa, scalato una sola volta sul pannello. */
+	private BufferedImage nativeBuffer;
+	
+	/** Canvas del rendering attivo, {@code null} se il pannello usa il ridisegno passivo di Swing. */
+	private GameCanvas canvas;
+	
+	/** Ultima istantanea pubblicata dal ciclo di gioco, disegnata dall'Event Dispatch Thread. */
+	private volatile RenderSnapshot snapshot;
+	
+	/** Raccoglie gli sprite dell'istantanea successiva, riutilizzato ad ogni pubblicazione dal thread della simulazione. */
+	private final RenderSnapshot.Builder snapshotBuilder = new RenderSnapshot.Builder();
+	
+	/** Regione modificata dall'ultimo ridisegno. */
+	private Rectangle dirtyRegion;
+	
+	/** Regione ridisegnata al frame precedente, ridisegnata di nuovo per cancellare le entita' rimosse o spostate. */
+	private Rectangle previousDirtyRegion;
+	
     /**
      * Costruttore della classe {@code BomberManPanel}.
      * Inizializza il layout.
@@ -77,134 +144,546 @@ public class BomberManPanel extends JPanel{
 		enemiesMap = new HashMap<Enemy, EnemyView>();
 		powerUpsMap = new HashMap<PowerUp, PowerUpView>();
 		tilesMap = new HashMap<Tile, TileView>();
+		dirtyRegion = new Rectangle();
+		previousDirtyRegion = new Rectangle();
 		
 		setLayout(new BorderLayout());
 		setFocusable(true);
+		setPreferredSize(new Dimension(cols * Constants.TILESIZE * Constants.RENDER_SCALE, rows * Constants.TILESIZE * Constants.RENDER_SCALE));
 	}
 	
     /**
      * Override del metodo paintComponent per disegnare gli elementi di gioco sul pannello.
+     * Il disegno avviene a partire dall'ultima {@code RenderSnapshot} pubblicata dal ciclo di gioco.
      *
      * @param g Oggetto Graphics utilizzato per disegnare.
      */
 	@Override
 	protected void paintComponent(Graphics g) {
-		
+
 		super.paintComponent(g);
-		Graphics2D g2 = (Graphics2D) g;
-		
-		drawGround(g2);
-		drawPowerUps(g2);
-		drawExit(g2);
-		drawBreakable(g2);
-		drawBomb(g2);
-		drawExplosions(g2);
-		drawEnemies(g2);
-		drawPlayer(g2);
+
+		//Rendering attivo -> il contenuto e' disegnato dal canvas
+		if (canvas == null) {
+			long start = System.nanoTime();
+			renderFrame((Graphics2D) g);
+			GameMetrics.getInstance().recordRender(System.nanoTime() - start);
+		}
 	}
-	
+
     /**
-     * Disegna sul pannello.
+     * Disegna un frame completo a partire dall'ultima {@code RenderSnapshot} pubblicata.
+     * Utilizzato sia dal ridisegno passivo di Swing sia dal rendering attivo del {@code GameCanvas}.
+     * Nel rendering a risoluzione nativa la scena viene disegnata nel buffer fuori schermo, poi scalato sul pannello.
      *
      * @param g2 Oggetto Graphics2D utilizzato per disegnare.
      */
-	public void drawGround(Graphics2D g2) {
-		
+	public void renderFrame(Graphics2D g2) {
+
+		RenderSnapshot frame = snapshot;
+		if (frame == null) return;
+
+		if (Constants.NATIVE_RENDERING) {
+			Graphics2D buffer = getNativeBuffer().createGraphics();
+			drawScene(buffer, frame);
+			buffer.dispose();
+			drawNativeBuffer(g2);
+		}
+		else {
+			drawScene(g2, frame);
+		}
+
+		if (paused) {
+			drawPause(g2);
+		}
+
+		if (metricsVisible) {
+			drawMetrics(g2);
+		}
+	}
+
+    /**
+     * Disegna gli elementi di gioco di un'istantanea, alla risoluzione degli sprite.
+     *
+     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea da disegnare.
+     */
+	private void drawScene(Graphics2D g2, RenderSnapshot frame) {
+
+		drawGround(g2, frame);
+		drawSprites(g2, frame);
+	}
+
+    /**
+     * Restituisce il buffer del rendering a risoluzione nativa, creandolo al primo utilizzo.
+     *
+     * @return Il buffer fuori schermo, grande quanto il terreno di gioco con celle da 16 pixel.
+     */
+	private BufferedImage getNativeBuffer() {
+
+		if (nativeBuffer == null) {
+			nativeBuffer = createBufferImage(cols * Constants.TILESIZE, rows * Constants.TILESIZE);
+		}
+		return nativeBuffer;
+	}
+
+    /**
+     * Scala il buffer del rendering a risoluzione nativa sul pannello con il fattore intero {@code Constants.RENDER_SCALE}
+     * (nearest neighbour) e lo centra, nel caso in cui il pannello sia piu' grande del terreno di gioco.
+     *
+     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     */
+	private void drawNativeBuffer(Graphics2D g2) {
+
+		int width = nativeBuffer.getWidth();
+		int height = nativeBuffer.getHeight();
+		int scale = Constants.RENDER_SCALE;
+
+		int x = (getWidth() - width * scale) / 2;
+		int y = (getHeight() - height * scale) / 2;
+
+		g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g2.drawImage(nativeBuffer, x, y, width * scale, height * scale, null);
+	}
+
+    /**
+     * Crea un'immagine opaca compatibile con la configurazione grafica del pannello.
+     *
+     * @param width La larghezza dell'immagine.
+     * @param height L'altezza dell'immagine.
+     * @return L'immagine creata.
+     */
+	private BufferedImage createBufferImage(int width, int height) {
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		return (gc != null)
+				? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+				: new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+	}
+
+    /**
+     * Disegna la schermata di pausa sopra il terreno di gioco.
+     *
+     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     */
+	private void drawPause(Graphics2D g2) {
+
+		g2.setColor(new Color(0, 0, 0, 150));
+		g2.fillRect(0, 0, getWidth(), getHeight());
+
+		g2.setFont(new Font("Arial", Font.BOLD, 40));
+		g2.setColor(Color.WHITE);
+		FontMetrics metrics = g2.getFontMetrics();
+		String text = "PAUSE";
+		g2.drawString(text, (getWidth() - metrics.stringWidth(text)) / 2, (getHeight() + metrics.getAscent()) / 2);
+	}
+
+    /**
+     * Disegna l'overlay delle metriche prestazionali: percentili delle durate (in millisecondi),
+     * frame per secondo, velocita' di allocazione del ciclo di gioco e numero di entita'.
+     *
+     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     */
+	private void drawMetrics(Graphics2D g2) {
+
+		GameMetrics metrics = GameMetrics.getInstance();
+		String[] lines = {
+				String.format("FPS %d  alloc %d KB/s", metrics.getFramesPerSecond(), metrics.getAllocationRate() / 1024),
+				String.format("tick   p50 %.2f  p99 %.2f  max %.2f", metrics.getTickTimeP50(), metrics.getTickTimeP99(), metrics.getTickTimeMax()),
+				String.format("render p50 %.2f  p99 %.2f  max %.2f", metrics.getRenderTimeP50(), metrics.getRenderTimeP99(), metrics.getRenderTimeMax()),
+				String.format("publ.  p50 %.2f  p99 %.2f  max %.2f", metrics.getPublishTimeP50(), metrics.getPublishTimeP99(), metrics.getPublishTimeMax()),
+				String.format("frame  p50 %.2f  p99 %.2f  max %.2f", metrics.getFrameTimeP50(), metrics.getFrameTimeP99(), metrics.getFrameTimeMax()),
+				String.format("edt    p50 %.2f  p99 %.2f  max %.2f", metrics.getEdtLatencyP50(), metrics.getEdtLatencyP99(), metrics.getEdtLatencyMax()),
+				String.format("gc     n %d  p99 %.2f  max %.2f", metrics.getGcPauseCount(), metrics.getGcPauseP99(), metrics.getGcPauseMax()),
+				String.format("enemies %d  bombs %d  explosions %d  power-ups %d",
+						metrics.getEnemies(), metrics.getBombs(), metrics.getExplosions(), metrics.getPowerUps())
+		};
+
+		g2.setColor(new Color(0, 0, 0, 180));
+		g2.fill(METRICS_BOUNDS);
+
+		g2.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		g2.setColor(Color.WHITE);
+		int lineHeight = g2.getFontMetrics().getHeight();
+		for (int i=0; i < lines.length; i++) {
+			g2.drawString(lines[i], METRICS_BOUNDS.x + 6, METRICS_BOUNDS.y + 6 + lineHeight * (i + 1));
+		}
+	}
+
+    /**
+     * Disegna il terreno sul pannello.
+     * Il pavimento e le celle indistruttibili vengono copiati dallo sfondo pre-renderizzato,
+     * ridisegnato solo quando cambia la disposizione del terreno o il livello.
+     *
+     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea da disegnare.
+     */
+	public void drawGround(Graphics2D g2, RenderSnapshot frame) {
+
+		if (background == null || backgroundVersion != frame.getLayoutVersion() || backgroundLevel != frame.getLevel()) {
+			renderBackground(frame);
+			backgroundVersion = frame.getLayoutVersion();
+			backgroundLevel = frame.getLevel();
+		}
+
+		g2.drawImage(background, 0, 0, null);
+	}
+
+    /**
+     * Disegna lo sfondo statico: il pavimento e le celle indistruttibili, una sola volta per disposizione del terreno.
+     * Sotto le celle distruttibili viene disegnato il pavimento, le celle distruttibili sono disegnate al di sopra.
+     *
+     * @param frame L'istantanea da cui leggere i tipi delle celle.
+     */
+	private void renderBackground(RenderSnapshot frame) {
+
+		//Sfondo alla risoluzione degli sprite: nel rendering a risoluzione nativa celle da 16 pixel
+		if (background == null) {
+			background = createBufferImage(cols * SPRITE_TILESIZE, rows * SPRITE_TILESIZE);
+		}
+
+		Graphics2D g2 = background.createGraphics();
+		TileType[][] ground = frame.getGround();
+
 		for (int i=0; i < rows; i++) {
 			for (int j=0; j < cols; j++) {
-				
-				Tile tile = controller.getCell(i, j);
-				tilesMap.get(tile).draw(g2, level);
-			}	
+				g2.drawImage(TileView.getGroundFrame(ground[i][j], frame.getLevel()), j * SPRITE_TILESIZE, i * SPRITE_TILESIZE, null);
+			}
 		}
+		g2.dispose();
 	}
-	
+
     /**
-     * Disegna i blocchi distruttibili sul pannello.
+     * Disegna gli sprite dell'istantanea, nell'ordine in cui sono stati aggiunti:
+     * power-up, uscita, blocchi distruttibili, bombe, esplosioni, nemici e giocatore.
+     * Gli sprite sono gia' scalati dallo {@code SpriteAtlas} e vengono copiati senza ridimensionamento;
+     * nel rendering a risoluzione nativa le coordinate del modello sono ridotte ai pixel del buffer.
      *
      * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea da disegnare.
      */
-	public void drawBreakable(Graphics2D g2) {
-		
+	private void drawSprites(Graphics2D g2, RenderSnapshot frame) {
+		for (int i=0; i < frame.size(); i++) {
+			g2.drawImage(frame.getImage(i), frame.getX(i) / PIXEL_RATIO, frame.getY(i) / PIXEL_RATIO, null);
+		}
+	}
+
+    /**
+     * Costruisce e pubblica l'istantanea da disegnare a partire dallo stato corrente della simulazione.
+     * Va invocato dal thread che aggiorna il modello: il {@code GameLoop}, oppure l'Event Dispatch Thread a ciclo fermo.
+     * Ogni vista aggiunge all'istantanea il frame corrente della propria animazione e la propria posizione:
+     * le viste vengono cosi' lette e animate solo da questo thread, mentre l'Event Dispatch Thread
+     * legge soltanto i valori copiati nell'istantanea, pubblicata tramite un campo {@code volatile}.
+     * Le entita' appena generate dalla simulazione, senza vista associata, vengono ignorate.
+     * La matrice dei tipi di cella viene copiata solo quando cambia la disposizione del terreno.
+     */
+	public void publishSnapshot() {
+
+		Floor floor = controller.getFloor();
+		int version = floor.getLayoutVersion();
+
+		RenderSnapshot previous = snapshot;
+		TileType[][] ground;
+		if (previous != null && previous.getLayoutVersion() == version && previous.getLevel() == level) {
+			ground = previous.getGround();
+		}
+		else {
+			ground = new TileType[rows][cols];
+			for (int i=0; i < rows; i++) {
+				for (int j=0; j < cols; j++) {
+					ground[i][j] = floor.getCell(i, j).getType();
+				}
+			}
+		}
+
+		RenderSnapshot.Builder frame = snapshotBuilder.reset(level, version, ground);
+
+		for (PowerUp powerUp : floor.getPowerUps()) {
+			PowerUpView powerUpView = powerUpsMap.get(powerUp);
+			if (powerUpView != null) powerUpView.draw(frame);
+		}
+
+		if (exitView != null) {
+			exitView.draw(frame);
+		}
+
 		for (int i=0; i < rows; i++) {
 			for (int j=0; j < cols; j++) {
-				
-				Tile tile = controller.getCell(i, j);
-				
-				if (tile.getType() == TileType.BREAKABLE) {
-					tilesMap.get(tile).draw(g2, level);
+				Tile tile = floor.getCell(i, j);
+				TileView tileView = tilesMap.get(tile);
+				if (tile.getType() == TileType.BREAKABLE && tileView != null) {
+					tileView.draw(frame, level);
 				}
-			}	
+			}
 		}
+
+		for (Bomb bomb : floor.getBombsPlaced()) {
+			BombView bombView = bombsMap.get(bomb);
+			if (bombView != null) bombView.draw(frame);
+		}
+
+		for (Explosion explosion : floor.getExplosions()) {
+			ExplosionView explosionView = explosionsMap.get(explosion);
+			if (explosionView != null) explosionView.draw(frame);
+		}
+
+		for (Enemy enemy : floor.getEnemies()) {
+			EnemyView enemyView = enemiesMap.get(enemy);
+			if (enemyView != null) enemyView.draw(frame);
+		}
+
+		if (playerView != null) {
+			playerView.draw(frame);
+		}
+
+		snapshot = frame.build();
 	}
-	
+
     /**
-     * Disegna i power-up sul pannello.
-     *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * Metodo chiamato quando un'entita' osservata notifica un cambiamento: l'area da essa occupata viene segnata come modificata.
+     * Gli sprite di giocatore e nemici sono alti due celle e vengono allargati del massimo spostamento tra due frame,
+     * cosi' da coprire anche la posizione precedente.
+     * 
+     * @param o Oggetto osservato.
+     * @param arg Argomento passato con la notifica.
      */
-	public void drawPowerUps(Graphics2D g2) {
+	@Override
+	public void update(Observable o, Object arg) {
 		
-		List<PowerUp> powerUps = new ArrayList<>(controller.getPowerUps());
-		for (PowerUp powerUp : powerUps) {
-			powerUpsMap.get(powerUp).draw(g2);
+		if (o instanceof Player) {
+			Player player = (Player)o;
+			markSpriteDirty(player.getX(), player.getY());
+		}
+		else if (o instanceof Enemy) {
+			Enemy enemy = (Enemy)o;
+			markSpriteDirty(enemy.getX(), enemy.getY());
+		}
+		else if (o instanceof Bomb) {
+			Bomb bomb = (Bomb)o;
+			markTileDirty(bomb.getX(), bomb.getY());
+		}
+		else if (o instanceof Explosion) {
+			Explosion explosion = (Explosion)o;
+			for (Point tile : explosion.getExplosionTiles()) {
+				markTileDirty(tile.x, tile.y);
+			}
+		}
+		else if (o instanceof Tile) {
+			Tile tile = (Tile)o;
+			markTileDirty(tile.getX(), tile.getY());
 		}
 	}
 	
     /**
-     * Disegna l'uscita sul pannello.
-     *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * Segna come modificata l'area occupata dallo sprite di un giocatore o di un nemico.
+     * 
+     * @param x La coordinata x dello sprite (in pixel).
+     * @param y La coordinata y dello sprite (in pixel).
      */
-	public void drawExit(Graphics2D g2) {
-		exitView.draw(g2);
+	private void markSpriteDirty(int x, int y) {
+		markDirty(x - MOVEMENT_MARGIN, y - TILESIZE - MOVEMENT_MARGIN, TILESIZE + 2*MOVEMENT_MARGIN, 2*TILESIZE + 2*MOVEMENT_MARGIN);
 	}
 	
     /**
-     * Disegna le bombe piazzate sul pannello.
-     *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * Segna come modificata una cella del terreno.
+     * 
+     * @param x La coordinata x della cella.
+     * @param y La coordinata y della cella.
      */
-	public void drawBomb(Graphics2D g2) {
-		
-		List<Bomb> bombs = new ArrayList<>(controller.getBombsPlaced());
-		for (Bomb bomb : bombs) {
-			bombsMap.get(bomb).draw(g2);
+	private void markTileDirty(int x, int y) {
+		markDirty(x * TILESIZE, y * TILESIZE, TILESIZE, TILESIZE);
+	}
+	
+    /**
+     * Aggiunge un'area alla regione da ridisegnare.
+     * 
+     * @param x La coordinata x dell'area.
+     * @param y La coordinata y dell'area.
+     * @param width La larghezza dell'area.
+     * @param height L'altezza dell'area.
+     */
+	public synchronized void markDirty(int x, int y, int width, int height) {
+		if (dirtyRegion.isEmpty()) {
+			dirtyRegion.setBounds(x, y, width, height);
+		}
+		else {
+			dirtyRegion.add(x, y);
+			dirtyRegion.add(x + width, y + height);
 		}
 	}
 	
     /**
-     * Disegna le esplosioni sul pannello.
+     * Segna come modificato l'intero pannello.
+     */
+	public void markAllDirty() {
+		markDirty(0, 0, cols * TILESIZE, rows * TILESIZE);
+	}
+	
+    /**
+     * Abilita il rendering attivo: il terreno di gioco viene disegnato da un {@code GameCanvas} che occupa l'intero pannello.
+     * Il pannello resta il componente che riceve il focus e gli eventi della tastiera.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param buffers Il numero di buffer del rendering attivo (2 o 3).
      */
-	public void drawExplosions(Graphics2D g2) {
-		
-		List<Explosion> explosions = new ArrayList<>(controller.getExplosions());
-		for (Explosion explosion : explosions) {
-			explosionsMap.get(explosion).draw(g2);
+	public void enableActiveRendering(int buffers) {
+		if (canvas == null) {
+			canvas = new GameCanvas(this, buffers);
+			add(canvas, BorderLayout.CENTER);
 		}
 	}
 	
     /**
-     * Disegna il giocatore sul pannello.
+     * Verifica se il pannello usa il rendering attivo.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @return {@code true} se il rendering attivo e' abilitato, {@code false} altrimenti.
      */
-	public void drawPlayer(Graphics2D g2) {
-		playerView.draw(g2);
+	public boolean isActiveRendering() {
+		return canvas != null;
 	}
 	
     /**
-     * Disegna i nemici sul pannello.
+     * Restituisce il canvas del rendering attivo.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @return Il canvas, oppure {@code null} se il pannello usa il ridisegno passivo di Swing.
      */
-	public void drawEnemies(Graphics2D g2) {
-		List<Enemy> enemies = new ArrayList<>(controller.getEnemies());
-		for (Enemy enemy : enemies) {
-			enemiesMap.get(enemy).draw(g2);
+	public GameCanvas getCanvas() {
+		return canvas;
+	}
+	
+    /**
+     * Presenta il frame corrente. Con il rendering attivo il frame viene disegnato e mostrato subito dal thread chiamante;
+     * altrimenti viene richiesto a Swing il ridisegno della sola regione modificata.
+     */
+	public void present() {
+		if (canvas != null) {
+			synchronized (this) {
+				dirtyRegion.setBounds(0, 0, 0, 0);
+			}
+			canvas.render();
+		}
+		else {
+			repaintDirty();
+		}
+	}
+	
+    /**
+     * Ridisegna l'intero terreno di gioco, ad esempio per mostrare o nascondere la schermata di pausa a ciclo fermo.
+     */
+	public void refresh() {
+		if (canvas != null) {
+			canvas.render();
+		}
+		else {
+			repaint();
+		}
+	}
+	
+    /**
+     * Richiede il ridisegno della sola regione modificata.
+     * Alle notifiche ricevute si aggiungono le entita' animate dalle proprie viste senza notifiche dal modello
+     * (bombe, power-up e uscita scoperti, animazioni di morte e vittoria, celle animate) e la regione del frame precedente,
+     * che cancella le entita' rimosse dal terreno. Se nulla e' cambiato, il pannello non viene ridisegnato.
+     */
+	public void repaintDirty() {
+		
+		markAnimated();
+		
+		if (metricsVisible) {
+			markDirty(METRICS_BOUNDS.x, METRICS_BOUNDS.y, METRICS_BOUNDS.width, METRICS_BOUNDS.height);
+		}
+		
+		Rectangle region;
+		synchronized (this) {
+			region = new Rectangle(dirtyRegion);
+			if (region.isEmpty()) {
+				region.setBounds(previousDirtyRegion);
+			}
+			else if (!previousDirtyRegion.isEmpty()) {
+				region.add(previousDirtyRegion);
+			}
+			previousDirtyRegion.setBounds(dirtyRegion);
+			dirtyRegion.setBounds(0, 0, 0, 0);
 		}
+		
+		if (!region.isEmpty()) {
+			//Risoluzione nativa -> l'intero frame viene comunque ridisegnato e scalato
+			if (Constants.NATIVE_RENDERING) {
+				repaint();
+			}
+			else {
+				repaint(region);
+			}
+		}
+	}
+	
+    /**
+     * Segna come modificate le entita' la cui animazione avanza ad ogni ridisegno.
+     * Power-up e uscita sono considerati solo quando non sono piu' coperti da un blocco distruttibile.
+     */
+	private void markAnimated() {
+		
+		Player player = Player.getInstance();
+		if (!player.isAlive() || player.isLevelFinished()) {
+			markSpriteDirty(player.getX(), player.getY());
+		}
+		
+		for (Enemy enemy : controller.getEnemies()) {
+			if (!enemy.isAlive()) {
+				markSpriteDirty(enemy.getX(), enemy.getY());
+			}
+		}
+		
+		for (Bomb bomb : controller.getBombsPlaced()) {
+			markTileDirty(bomb.getX(), bomb.getY());
+		}
+		
+		for (PowerUp powerUp : controller.getPowerUps()) {
+			if (controller.getCell(powerUp.getY(), powerUp.getX()).getType() == TileType.FLOOR) {
+				markTileDirty(powerUp.getX(), powerUp.getY());
+			}
+		}
+		
+		Exit exit = controller.getFloor().getExit();
+		if (exit != null && controller.getCell(exit.getY(), exit.getX()).getType() == TileType.FLOOR) {
+			markTileDirty(exit.getX(), exit.getY());
+		}
+		
+		//Livello con celle distruttibili animate
+		if (TileView.isBreakableAnimated(level)) {
+			for (int i=0; i < rows; i++) {
+				for (int j=0; j < cols; j++) {
+					if (controller.getCell(i, j).getType() == TileType.BREAKABLE) {
+						markTileDirty(j, i);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Imposta lo stato di pausa del gioco, mostrato sopra il terreno di gioco.
+	 * 
+	 * @param paused {@code true} se il gioco e' in pausa, {@code false} altrimenti.
+	 */
+	public void setPaused(boolean paused) {
+		this.paused = paused;
+	}
+	
+	/**
+	 * Mostra o nasconde l'overlay delle metriche prestazionali.
+	 * 
+	 * @param metricsVisible {@code true} per mostrare l'overlay, {@code false} per nasconderlo.
+	 */
+	public void setMetricsVisible(boolean metricsVisible) {
+		this.metricsVisible = metricsVisible;
+	}
+	
+	/**
+	 * Verifica se l'overlay delle metriche prestazionali e' visibile.
+	 * 
+	 * @return {@code true} se l'overlay e' visibile, {@code false} altrimenti.
+	 */
+	public boolean isMetricsVisible() {
+		return metricsVisible;
 	}
 	
 	/**
@@ -357,9 +836,11 @@ public class BomberManPanel extends JPanel{
 	}
 	
 	/**
-	 * Svuota tutte le mappe dei disegni (bombe, esplosioni, nemici, power-up, celle).
+	 * Svuota tutte le mappe dei disegni (bombe, esplosioni, nemici, power-up, celle)
+	 * e segna l'intero pannello come da ridisegnare.
 	 */
 	public void clear() {
+		markAllDirty();
 		bombsMap.clear();
 		explosionsMap.clear();
 		enemiesMap.clear();
@@ -0,0 +1,92 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import model.AnimationState;
+import utilities.Constants;
+
+/**
+ * Classe che rappresenta la vista di un nemico "Chaser" nel gioco, che insegue il giocatore.
+ * Non avendo uno sprite sheet dedicato, riutilizza l'animazione di camminata del "Puropen"
+ * con i canali rosso e blu scambiati, cosi' da distinguerlo dagli altri nemici.
+ * Estende la classe {@code EnemyView}.
+ *
+ * @author Lorenzo Zanda
+ * @see EnemyView
+ * @see PuropenView
+ */
+public class ChaserView extends EnemyView {
+
+    /** Immagini che compongono l'animazione di camminata del "Chaser" (quattro frame per direzione). */
+	private static final List<BufferedImage> walkingFrames = recolor(
+			SpriteAtlas.getRow(SpriteAtlas.ENEMIES_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16));
+
+    /** Immagini che compongono l'animazione di camminata del "Chaser" quando e' immortale. */
+	private static final List<BufferedImage> damagedWalkingFrames =
+			SpriteAtlas.getRow(SpriteAtlas.DAMAGED_ENEMIES_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16);
+
+	/**
+	 * Costruttore della classe {@code ChaserView}.
+	 */
+	public ChaserView() {
+	}
+
+    /**
+     * Crea una copia dei frame specificati scambiandone i canali rosso e blu.
+     * I frame originali, condivisi tramite lo {@code SpriteAtlas}, non vengono modificati.
+     *
+     * @param frames I frame da ricolorare.
+     * @return La lista immutabile dei frame ricolorati.
+     */
+	private static List<BufferedImage> recolor(List<BufferedImage> frames) {
+
+		List<BufferedImage> recolored = new ArrayList<BufferedImage>(frames.size());
+
+		for (BufferedImage frame : frames) {
+			BufferedImage copy = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_ARGB);
+			for (int y = 0; y < frame.getHeight(); y++) {
+				for (int x = 0; x < frame.getWidth(); x++) {
+					int argb = frame.getRGB(x, y);
+					int red = (argb >> 16) & 0xFF;
+					int blue = argb & 0xFF;
+					copy.setRGB(x, y, (argb & 0xFF00FF00) | (blue << 16) | red);
+				}
+			}
+			recolored.add(copy);
+		}
+		return List.copyOf(recolored);
+	}
+
+    /**
+     * Gestisce le animazioni in base allo stato di animazione e alla direzione di movimento del "Chaser".
+     */
+	@Override
+	protected void manageAnimation() {
+
+		if (animationState == AnimationState.DYING) {
+			sprites = explosion;
+		}
+
+		else {
+			switch(direction) {
+				case LEFT  -> {
+					sprites = walkingFrames.subList(0, 4);
+					damagedSprites = damagedWalkingFrames.subList(0, 4);
+				}
+				case DOWN  -> {
+					sprites = walkingFrames.subList(4, 8);
+					damagedSprites = damagedWalkingFrames.subList(4, 8);
+				}
+				case UP    -> {
+					sprites = walkingFrames.subList(8, 12);
+					damagedSprites = damagedWalkingFrames.subList(8, 12);
+				}
+				case RIGHT -> {
+					sprites = walkingFrames.subList(12, 16);
+					damagedSprites = damagedWalkingFrames.subList(12, 16);
+				}
+			}
+		}
+	}
+}
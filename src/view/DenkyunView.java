@@ -1,7 +1,7 @@
 package view;
 
 import java.awt.image.BufferedImage;
-import java.util.Arrays;
+import java.util.List;
 import model.AnimationState;
 import utilities.Constants;
 
@@ -15,39 +15,38 @@ import utilities.Constants;
  */
 public class DenkyunView extends EnemyView {
 	
-    /** Array di immagini che compongono l'animazione di camminata del "Denkyun". */
-	private BufferedImage[] walkingFrames;
+    /** Immagini che compongono l'animazione di camminata del "Denkyun". */
+	private static final List<BufferedImage> walkingFrames = setSprites(SpriteAtlas.ENEMIES_SHEET);
     
-    /** Array di immagini che compongono l'animazione di camminata del "Denkyun" quando e' immortale. */
-	private BufferedImage[] damagedWalkingFrames;
+    /** Immagini che compongono l'animazione di camminata del "Denkyun" quando e' immortale. */
+	private static final List<BufferedImage> damagedWalkingFrames = setSprites(SpriteAtlas.DAMAGED_ENEMIES_SHEET);
 
     /**
      * Costruttore della classe {@code DenkyunView}.
      */
 	public DenkyunView() {
-		walkingFrames = new BufferedImage[12];
-		damagedWalkingFrames = new BufferedImage[12];
-		setSprites();
 	}
 	
     /**
      * Imposta gli sprite del Denkyun.
+     * L'animazione percorre i sei frame dello sheet in avanti e poi all'indietro.
+     *
+     * @param sheet Lo sprite sheet da cui ritagliare i frame.
+     * @return La lista immutabile dei frame dell'animazione.
      */
-	private void setSprites() {
+	private static List<BufferedImage> setSprites(String sheet) {
 		
 		int tileSize = Constants.TILESIZE;
+		BufferedImage[] frames = new BufferedImage[12];
 		
-		for (int i = 0; i < walkingFrames.length/2; i++) {
-			walkingFrames[i] = enemiesSheet.getSubimage(i*tileSize, 2*tileSize, tileSize, 2*tileSize);
-			damagedWalkingFrames[i] = enemiesDamagedSheet.getSubimage(i*tileSize, 2*tileSize, tileSize, 2*tileSize);
-			
+		for (int i = 0; i < frames.length/2; i++) {
+			frames[i] = SpriteAtlas.getFrame(sheet, i*tileSize, 2*tileSize, tileSize, 2*tileSize);
 		}
 		
-		for (int i = walkingFrames.length/2; i > 0; i--) {
-			int length = walkingFrames.length;
-			walkingFrames[length-i] = enemiesSheet.getSubimage((i-1)*tileSize, 2*tileSize, tileSize, 2*tileSize);
-			damagedWalkingFrames[length-i] = enemiesDamagedSheet.getSubimage((i-1)*tileSize, 2*tileSize, tileSize, 2*tileSize);
+		for (int i = frames.length/2; i > 0; i--) {
+			frames[frames.length-i] = SpriteAtlas.getFrame(sheet, (i-1)*tileSize, 2*tileSize, tileSize, 2*tileSize);
 		}
+		return List.of(frames);
 	}
 
     /**
@@ -57,11 +56,11 @@ public class DenkyunView extends EnemyView {
 	protected void manageAnimation() {
 		
 		if (animationState == AnimationState.DYING) {
-			sprites = Arrays.asList(explosion);
+			sprites = explosion;
 		}
 		else {
-			sprites = Arrays.asList(walkingFrames);
-			damagedSprites = Arrays.asList(damagedWalkingFrames);
+			sprites = walkingFrames;
+			damagedSprites = damagedWalkingFrames;
 		}
 	}
 }
@@ -1,14 +1,10 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.AnimationState;
 import model.Move;
 import model.Enemy;
@@ -66,14 +62,8 @@ public abstract class EnemyView implements Observer {
     /** Collider del nemico. */
 	protected Rectangle collider;
     
-    /** Sprite Sheet dei nemici. */
-	protected BufferedImage enemiesSheet;
-    
-    /** Sprite Sheet dei nemici quando danneggiati. */
-	protected BufferedImage enemiesDamagedSheet;
-    
-    /** Array di immagini per l'animazione di morte del nemico. */
-	protected BufferedImage[] explosion;
+    /** Immagini per l'animazione di morte del nemico, condivise da tutti i nemici. */
+	protected static final List<BufferedImage> explosion = setSprites();
     
     /** Dimensione di ogni cella nel gioco. */
 	private final int TILESIZE = Constants.SCALED_TILESIZE;
@@ -82,39 +72,32 @@ public abstract class EnemyView implements Observer {
      * Costruttore della classe {@code EnemyView}.
      */
 	public EnemyView() {
-		sprites = new ArrayList<BufferedImage>();
-		damagedSprites = new ArrayList<BufferedImage>();
-		explosion = new BufferedImage[8];
-		
-		setSprites();
+		sprites = List.of();
+		damagedSprites = List.of();
 	}
 	
 	 /**
      * Si occupa di gestire gli sprite riguardanti l'animazione di morte.
+     *
+     * @return La lista immutabile dei frame dell'animazione di morte.
      */
-	private void setSprites() {
+	private static List<BufferedImage> setSprites() {
 		
-		try {
-			enemiesSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/enemies-sheet.png"));	
-			enemiesDamagedSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/damaged-enemies-sheet.png"));	
-			
-			BufferedImage explosionSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/enemy-explosion-sheet.png"));
-			
-			int tileSize = Constants.TILESIZE;
-			
-			for (int i = 0; i < 3; i++) {
-				explosion[i] = explosionSheet.getSubimage(i*tileSize, 0, tileSize, 3*tileSize);
-			}
-			
-			explosion[3] = explosionSheet.getSubimage(3*tileSize+5, 0, tileSize+6, 3*tileSize);
-			explosion[4] = explosionSheet.getSubimage(5*tileSize-2, 0, tileSize+4, 3*tileSize);
-			explosion[5] = explosionSheet.getSubimage(6*tileSize+6, 0, tileSize+4, 3*tileSize);
-			explosion[6] = explosionSheet.getSubimage(8*tileSize, 0, tileSize, 2*tileSize);
-			explosion[7] = explosionSheet.getSubimage(9*tileSize, 0, tileSize, 2*tileSize);
-			
-		} catch(IOException e) {
-			e.printStackTrace();
+		String sheet = SpriteAtlas.ENEMY_EXPLOSION_SHEET;
+		int tileSize = Constants.TILESIZE;
+		
+		BufferedImage[] frames = new BufferedImage[8];
+		for (int i = 0; i < 3; i++) {
+			frames[i] = SpriteAtlas.getFrame(sheet, i*tileSize, 0, tileSize, 3*tileSize);
 		}
+		
+		frames[3] = SpriteAtlas.getFrame(sheet, 3*tileSize+5, 0, tileSize+6, 3*tileSize);
+		frames[4] = SpriteAtlas.getFrame(sheet, 5*tileSize-2, 0, tileSize+4, 3*tileSize);
+		frames[5] = SpriteAtlas.getFrame(sheet, 6*tileSize+6, 0, tileSize+4, 3*tileSize);
+		frames[6] = SpriteAtlas.getFrame(sheet, 8*tileSize, 0, tileSize, 2*tileSize);
+		frames[7] = SpriteAtlas.getFrame(sheet, 9*tileSize, 0, tileSize, 2*tileSize);
+		
+		return List.of(frames);
 	}
 	
     /**
@@ -188,25 +171,22 @@ public abstract class EnemyView implements Observer {
 			damaged = enemy.isDamaged();
 			animationState = enemy.getAnimationState();
 			direction = enemy.getDirection();
+			currentTime = enemy.getCurrentTime();
 			if (animationState == AnimationState.DYING) {
 				currentFrame = 0;
 			}
 		}
-		
-		if (arg != null) {
-			currentTime = (long)arg;
-		}
 	}
 	
     /**
      * Disegna il nemico.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		int enemyX = x; 
 		int enemyY = y - TILESIZE;
-		g2.drawImage(getCurrentFrame(), enemyX, enemyY, TILESIZE, 2*TILESIZE, null);
+		frame.add(getCurrentFrame(), enemyX, enemyY);
 	}
 	
     /**
@@ -1,13 +1,9 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.Exit;
 import utilities.Constants;
 
@@ -28,7 +24,8 @@ public class ExitView implements Observer {
 	private int y;
     
     /** Lista di sprite per l'animazione. */
-	private List<BufferedImage> sprites;
+	private static final List<BufferedImage> sprites = 
+			SpriteAtlas.getRow(SpriteAtlas.EXIT_SHEET, 0, 0, Constants.TILESIZE, Constants.TILESIZE, 2);
     
     /** Frame corrente dell'animazione. */
 	private double currentFrame;
@@ -40,25 +37,6 @@ public class ExitView implements Observer {
 	 * Costruttore della classe {@code ExitView}.
 	 */
 	public ExitView() {
-		sprites = new ArrayList<BufferedImage>();
-		setSprites();
-	}
-	 /**
-     * Si occupa di gestire gli sprite riguardanti l'uscita.
-     */
-	private void setSprites() {
-		
-		int tileSize = Constants.TILESIZE;
-		
-		try {
-			BufferedImage exitSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/exit-sheet.png"));	
-			sprites.add(exitSheet.getSubimage(0, 0, tileSize, tileSize));
-			sprites.add(exitSheet.getSubimage(tileSize, 0, tileSize, tileSize));
-			
-		}
-		catch(IOException e) {
-			 e.printStackTrace();
-		}
 	}
 	
 	/**
@@ -102,13 +80,13 @@ public class ExitView implements Observer {
     /**
      * Disegna l'uscita.
      * 
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		
 		int exitX = x * TILESIZE;
 		int exitY = y * TILESIZE;
 		
-		g2.drawImage(getCurrentFrame(), exitX, exitY, TILESIZE, TILESIZE, null);
+		frame.add(getCurrentFrame(), exitX, exitY);
 	}
 }
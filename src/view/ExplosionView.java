@@ -1,13 +1,10 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.Observable;
 import java.util.Observer;
 import java.util.Set;
-import javax.imageio.ImageIO;
 import model.Explosion;
 import utilities.Constants;
 
@@ -36,8 +33,8 @@ public class ExplosionView implements Observer {
     /** Frame corrente dell'animazione. */
 	private double currentFrame;
     
-    /** Flag che indica se l'animazione dell'esplosione  terminata. */
-	private boolean finished;
+    /** Avanzamento dell'esplosione, letto dal modello. */
+	private double progress;
 	
 	/** Numero di frame componenti un ciclo di animazione di una componente dell'esplosione */
 	private static final int LENGTH = 9;
@@ -58,53 +55,31 @@ public class ExplosionView implements Observer {
      */
 	private static void setSprites() {
 		
+		String sheet = SpriteAtlas.BOMB_EXPLOSION_SHEET;
 		int tileSize = Constants.TILESIZE;
 		
-		try {
-			BufferedImage explosionSheet = ImageIO.read(Explosion.class.getResourceAsStream("/sprites/bomb-explosion-sheet.png"));	
-			
-			explosionFrames = new BufferedImage[ExplosionImage.values().length][LENGTH];
-			
-			for (int direction=0; direction < explosionFrames.length-1; direction++) {
-				for (int frame=0; frame < LENGTH; frame++) {
-					explosionFrames[direction][frame] = explosionSheet.getSubimage(frame*tileSize, direction*tileSize, tileSize, tileSize);
-				}
-			}
-			
-			for (int i=0; i < LENGTH; i++) {
-				explosionFrames[8][i] = explosionSheet.getSubimage(i*tileSize, 7*tileSize, tileSize, tileSize);
-			}
-			
-		} catch(IOException e) {
-			e.printStackTrace();
-		}
-	}
-	
-    /**
-     * Aggiorna l'animazione dell'esplosione in base alla velocit specificata.
-     *
-     * @param animationSpeed La velocit di animazione dell'esplosione.
-     */
-	public void updateAnimation(double animationSpeed) {
+		explosionFrames = new BufferedImage[ExplosionImage.values().length][LENGTH];
 		
-		if (currentFrame >= LENGTH-1) {
-			finished = true;
+		for (int direction=0; direction < explosionFrames.length-1; direction++) {
+			for (int frame=0; frame < LENGTH; frame++) {
+				explosionFrames[direction][frame] = SpriteAtlas.getFrame(sheet, frame*tileSize, direction*tileSize, tileSize, tileSize);
+			}
 		}
 		
-		else {
-			currentFrame += animationSpeed;
+		for (int i=0; i < LENGTH; i++) {
+			explosionFrames[8][i] = SpriteAtlas.getFrame(sheet, i*tileSize, 7*tileSize, tileSize, tileSize);
 		}
 	}
 	
 	/**
-     * Restituisce l'immagine corrente per l'animazione dell'esplosione.
+     * Restituisce l'immagine corrente per l'animazione dell'esplosione,
+     * scelta in base all'avanzamento dell'esplosione nel modello.
      *
      * @param image La direzione dell'immagine dell'esplosione.
      * @return L'immagine corrente per l'animazione dell'esplosione.
      */
 	public BufferedImage getCurrentFrame(ExplosionImage image) {
 		
-		updateAnimation(0.1);
 		int direction = image.getValue();
 		int frameIndex = (int)currentFrame % LENGTH;
         return explosionFrames[direction][frameIndex];
@@ -116,7 +91,7 @@ public class ExplosionView implements Observer {
      * @return {@code true} se l'animazione  terminata, {@code false} altrimenti.
      */
 	public boolean isFinished() {
-		return finished;
+		return progress >= 1;
 	}
 
 	/**
@@ -130,15 +105,17 @@ public class ExplosionView implements Observer {
 			y = exp.getY();
 			radius = exp.getBomb().getExplosionRadius();
 			explosionTiles = exp.getExplosionTiles();
+			progress = exp.getProgress();
+			currentFrame = Math.min(progress * LENGTH, LENGTH - 1);
 		}	
 	}
 	
     /**
      * Disegna l' esplosione.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		
 		for (Point tile : explosionTiles) {
 			
@@ -147,7 +124,7 @@ public class ExplosionView implements Observer {
 			
 			ExplosionImage img = getExplosionImage(x, y, tileX, tileY, radius);
 			
-		    g2.drawImage(getCurrentFrame(img), tileX*TILESIZE, tileY*TILESIZE, TILESIZE, TILESIZE, null);
+		    frame.add(getCurrentFrame(img), tileX*TILESIZE, tileY*TILESIZE);
 		}
 	}
 	
@@ -0,0 +1,103 @@
+package view;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import controller.GameMetrics;
+
+/**
+ * Classe che implementa il rendering attivo del terreno di gioco.
+ *
+ * Il {@code Canvas} non viene ridisegnato da Swing: e' il {@code GameLoop} a disegnare ogni frame su un
+ * {@code BufferStrategy} (double o triple buffering) e a presentarlo subito, sincronizzando il toolkit con
+ * {@code Toolkit.sync()}. La consegna dei frame non dipende quindi dall'accorpamento delle richieste di ridisegno
+ * sull'Event Dispatch Thread e la durata di ogni frame puo' essere misurata.
+ * Il contenuto di ogni frame e' disegnato dal {@code BomberManPanel}, che resta il componente logico del gioco.
+ *
+ * @author Lorenzo Zanda
+ * @see BomberManPanel
+ * @see BufferStrategy
+ */
+public class GameCanvas extends Canvas {
+
+	/**
+	 *
+	 */
+	private static final long serialVersionUID = 4118409255283645962L;
+
+	/** Pannello che disegna il contenuto di ogni frame. */
+	private BomberManPanel panel;
+
+	/** Numero di buffer del {@code BufferStrategy}. */
+	private int buffers;
+
+	/**
+	 * Costruisce un nuovo {@code GameCanvas}.
+	 *
+	 * @param panel Il pannello che disegna il contenuto di ogni frame.
+	 * @param buffers Il numero di buffer da usare (2 o 3).
+	 */
+	public GameCanvas(BomberManPanel panel, int buffers) {
+		this.panel = panel;
+		this.buffers = Math.max(2, Math.min(3, buffers));
+		setBackground(Color.BLACK);
+		setIgnoreRepaint(true);
+		setFocusable(false);
+	}
+
+	/**
+	 * Disegna e presenta un frame. Se il canvas non e' ancora visualizzabile il frame viene saltato.
+	 * I contenuti persi o ripristinati dal {@code BufferStrategy} vengono ridisegnati prima della presentazione.
+	 */
+	public synchronized void render() {
+
+		if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return;
+
+		BufferStrategy strategy = getBufferStrategy();
+		if (strategy == null) {
+			createBufferStrategy(buffers);
+			strategy = getBufferStrategy();
+		}
+
+		do {
+			do {
+				Graphics2D g2 = (Graphics2D) strategy.getDrawGraphics();
+				try {
+					g2.setColor(Color.BLACK);
+					g2.fillRect(0, 0, getWidth(), getHeight());
+					long renderStart = System.nanoTime();
+					panel.renderFrame(g2);
+					GameMetrics.getInstance().recordRender(System.nanoTime() - renderStart);
+				} finally {
+					g2.dispose();
+				}
+			} while (strategy.contentsRestored());
+
+			strategy.show();
+
+		} while (strategy.contentsLost());
+
+		Toolkit.getDefaultToolkit().sync();
+	}
+
+	/**
+	 * Override del metodo paint: il canvas viene disegnato solo dal ciclo di gioco.
+	 *
+	 * @param g Oggetto Graphics utilizzato per disegnare.
+	 */
+	@Override
+	public void paint(Graphics g) {
+	}
+
+	/**
+	 * Override del metodo update: il canvas viene disegnato solo dal ciclo di gioco.
+	 *
+	 * @param g Oggetto Graphics utilizzato per disegnare.
+	 */
+	@Override
+	public void update(Graphics g) {
+	}
+}
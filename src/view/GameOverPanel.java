@@ -6,10 +6,7 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.Image;
 import java.awt.Insets;
-import javax.imageio.ImageIO;
-import java.io.IOException;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -40,8 +37,8 @@ public class GameOverPanel extends JPanel {
     /** Pulsante per uscire dal gioco. */
     private JButton exitButton;
 
-    /** Immagine di sfondo del pannello di game over. */
-    private Image backgroundImage;
+    /** Percorso dell'immagine di sfondo del pannello di game over. */
+    private static final String BACKGROUND = "/images/game-over.png";
 	
     /**
      * Costruttore della classe {@code GameOverPanel}.
@@ -98,12 +95,7 @@ public class GameOverPanel extends JPanel {
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		try {
-			backgroundImage = ImageIO.read(getClass().getResourceAsStream("/images/game-over.png"));
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g.drawImage(ImageCache.getScaledImage(BACKGROUND, getWidth(), getHeight()), 0, 0, null);
 	}
 
     /**
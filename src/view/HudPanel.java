@@ -4,14 +4,12 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
 import model.Player;
 import model.Enemy;
@@ -24,6 +22,10 @@ import utilities.Constants;
  * Include il punteggio totale, la vita del giocatore e i potenziamenti attivi.
  * Implementa l'interfaccia {@code Observer} per ricevere notifiche sugli aggiornamenti degli oggetti osservati.
  * 
+ * Lo sfondo dell'HUD viene decodificato e scalato una sola volta dall'{@code ImageCache};
+ * le cifre sono pre-scalate e ogni valore mostrato viene renderizzato in un'immagine, riutilizzata finche' il valore non cambia.
+ * L'HUD e' scalato di {@code Constants.RENDER_SCALE}, come il terreno di gioco, e centrato orizzontalmente nel pannello.
+ * 
  * @see JPanel
  * @see Observer
  */
@@ -52,14 +54,38 @@ public class HudPanel extends JPanel implements Observer {
     /** Numero totale di potenziamenti della potenza di fuoco del giocatore. */
     private int totalFire;
 
-    /** Sprite sheet contenente le immagini dei numeri. */
-    private BufferedImage numbersSheet;
+    /** Indici dei valori mostrati dall'HUD. */
+    private static final int SCORE = 0, HP = 1, BOMBS = 2, SPEED = 3, FIRE = 4;
+
+    /** Posizione (in pixel non scalati) della cifra meno significativa di ogni valore mostrato. */
+    private static final int[] PADDINGS = { 112, 32, 180, 212, 244 };
+
+    /** Larghezza (in pixel non scalati) di una cifra. */
+    private static final int DIGIT_WIDTH = 8;
+
+    /** Fattore di scala dell'HUD. */
+    private static final int SCALE = Constants.RENDER_SCALE;
+
+    /** Larghezza dell'HUD scalato. */
+    private static final int HUD_WIDTH = Constants.COLS * Constants.TILESIZE * SCALE;
+
+    /** Altezza dell'HUD scalato. */
+    private static final int HUD_HEIGHT = 2 * Constants.TILESIZE * SCALE;
 
-    /** Mappa associativa tra caratteri numerici e relative immagini. */
-    private Map<Character, BufferedImage> numbersMap;
+    /** Immagini pre-scalate delle cifre, indicizzate per valore. */
+    private BufferedImage[] digits;
 
-    /** Immagine per l'HUD. */
-    private Image hudImage;
+    /** Percorso dell'immagine per l'HUD. */
+    private static final String HUD_IMAGE = "/images/hud.png";
+
+    /** Ultimo valore renderizzato per ogni elemento dell'HUD. */
+    private int[] renderedValues;
+
+    /** Immagini dei valori renderizzati, riutilizzate finche' il valore non cambia. */
+    private BufferedImage[] renderedImages;
+    
+    /** Flag che indica se i valori mostrati sono cambiati dall'ultimo ridisegno. */
+    private volatile boolean changed = true;
 	
     /**
      * Costruttore della classe {@code HudPanel}.
@@ -67,51 +93,110 @@ public class HudPanel extends JPanel implements Observer {
      */
 	public HudPanel() {
 		
-		try {
-			numbersSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/numbers-sheet.png"));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		
-		numbersMap = loadNumbersMap();
-		setPreferredSize(new Dimension(Constants.WIDTH, Constants.SCALED_TILESIZE * 2));
+		digits = loadDigits();
+		renderedValues = new int[PADDINGS.length];
+		renderedImages = new BufferedImage[PADDINGS.length];
+		Arrays.fill(renderedValues, -1);
+		setPreferredSize(new Dimension(HUD_WIDTH, HUD_HEIGHT));
 	}
 	
     /**
-     * Carica le immagini dei numeri dalla sprite sheet e le associa a un carattere.
+     * Carica le immagini pre-scalate delle cifre dalla sprite sheet dei numeri.
      * 
-     * @return Una mappa che associa caratteri a immagini di numeri.
+     * @return Le immagini delle cifre, indicizzate per valore.
      */
-	public Map<Character, BufferedImage> loadNumbersMap() {
+	private BufferedImage[] loadDigits() {
 		
-		Map<Character, BufferedImage> numbersMap = new HashMap<Character, BufferedImage>();
+		BufferedImage[] digits = new BufferedImage[10];
 		for (int i=0; i <= 9; i++) {
-			BufferedImage number = numbersSheet.getSubimage((i*Constants.TILESIZE)+4, 2, 8, 12);
-			numbersMap.put((char)('0' + i), number);
+			digits[i] = SpriteAtlas.getFrame(SpriteAtlas.NUMBERS_SHEET, (i*Constants.TILESIZE)+4, 2, DIGIT_WIDTH, 12, SCALE);
 		}
-		return numbersMap;
+		return digits;
 	}
 	
     /**
-     * Metodo ausiliario per convertire un numero in elemento grafico usando il font corretto.
+     * Disegna un valore dell'HUD usando il font corretto.
+     * L'immagine del valore viene renderizzata di nuovo solo se il valore e' cambiato dall'ultimo disegno.
      * 
      * @param g2 Oggetto Graphics2D utilizzato per disegnare.
-     * @param padding Spazio necessario per disegnare il numero correttamente.
+     * @param item Indice dell'elemento dell'HUD da disegnare.
      * @param itemToDisplay Numero da visualizzare.
      */
-	public void toDisplay(Graphics2D g2, int padding, int itemToDisplay) {
-		String score = new StringBuffer(itemToDisplay + "").reverse().toString();
-		// Disegna lo score 
-		for (int i=0, xPos=padding; i < score.length(); i++, xPos-=8) {
-			char numberChar = score.charAt(i);
-			BufferedImage number = numbersMap.get(numberChar);
-
-			int x = xPos * Constants.SCALE;
-			int y = 10 * Constants.SCALE;
-			int width  = number.getWidth() * Constants.SCALE;
-			int height = number.getHeight() * Constants.SCALE;
-			
-			g2.drawImage(number, x, y, width, height, null);
+	private void toDisplay(Graphics2D g2, int item, int itemToDisplay) {
+		
+		itemToDisplay = Math.max(0, itemToDisplay);
+		if (renderedImages[item] == null || renderedValues[item] != itemToDisplay) {
+			renderedImages[item] = renderNumber(itemToDisplay);
+			renderedValues[item] = itemToDisplay;
+		}
+		
+		BufferedImage number = renderedImages[item];
+		int length = number.getWidth() / (DIGIT_WIDTH * SCALE);
+		
+		// La cifra meno significativa e' allineata al padding
+		int x = getOffset() + (PADDINGS[item] - (length-1) * DIGIT_WIDTH) * SCALE;
+		int y = 10 * SCALE;
+		g2.drawImage(number, x, y, null);
+	}
+	
+    /**
+     * Renderizza un numero non negativo in un'immagine, componendo le cifre pre-scalate.
+     * 
+     * @param value Il numero da renderizzare.
+     * @return L'immagine del numero.
+     */
+	private BufferedImage renderNumber(int value) {
+		
+		int length = 1;
+		for (int rest = value / 10; rest > 0; rest /= 10) {
+			length++;
+		}
+		
+		int digitWidth = digits[0].getWidth();
+		BufferedImage image = createImage(length * digitWidth, digits[0].getHeight(), Transparency.TRANSLUCENT);
+		Graphics2D g2 = image.createGraphics();
+		
+		// Disegna le cifre da destra verso sinistra
+		int rest = value;
+		for (int i = length-1; i >= 0; i--, rest /= 10) {
+			g2.drawImage(digits[rest % 10], i * digitWidth, 0, null);
+		}
+		g2.dispose();
+		return image;
+	}
+	
+    /**
+     * Crea un'immagine compatibile con la configurazione grafica del pannello.
+     * 
+     * @param width La larghezza dell'immagine.
+     * @param height L'altezza dell'immagine.
+     * @param transparency La trasparenza dell'immagine.
+     * @return L'immagine creata.
+     */
+	private BufferedImage createImage(int width, int height, int transparency) {
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		if (gc != null) {
+			return gc.createCompatibleImage(width, height, transparency);
+		}
+		return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+	}
+	
+    /**
+     * Restituisce lo scostamento orizzontale dell'HUD, centrato nel pannello se questo e' piu' largo.
+     * 
+     * @return Lo scostamento in pixel.
+     */
+	private int getOffset() {
+		return Math.max(0, (getWidth() - HUD_WIDTH) / 2);
+	}
+	
+    /**
+     * Richiede il ridisegno dell'HUD solo se punteggio o statistiche sono cambiati dall'ultima richiesta.
+     */
+	public void repaintIfChanged() {
+		if (changed) {
+			changed = false;
+			repaint();
 		}
 	}
 	
@@ -129,12 +214,7 @@ public class HudPanel extends JPanel implements Observer {
 		
 		g2.setColor(Color.BLACK);
 		g2.fillRect(0, 0, getWidth(), getHeight());
-		try {
-			hudImage = ImageIO.read(getClass().getResourceAsStream("/images/hud.png"));
-			g2.drawImage(hudImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g2.drawImage(ImageCache.getScaledImage(HUD_IMAGE, HUD_WIDTH, HUD_HEIGHT), getOffset(), 0, null);
 		
 		//safe score
 		if (totalScore + levelScore >= 99999999) {
@@ -142,11 +222,11 @@ public class HudPanel extends JPanel implements Observer {
 			levelScore = 0;
 		}
 		
-		toDisplay(g2, 112, totalScore + levelScore);
-		toDisplay(g2, 32, totalHp);
-		toDisplay(g2, 180, totalBombs);
-		toDisplay(g2, 212, totalSpeed);
-		toDisplay(g2, 244, totalFire);
+		toDisplay(g2, SCORE, totalScore + levelScore);
+		toDisplay(g2, HP, totalHp);
+		toDisplay(g2, BOMBS, totalBombs);
+		toDisplay(g2, SPEED, totalSpeed);
+		toDisplay(g2, FIRE, totalFire);
 	}
 	
     /**
@@ -175,6 +255,12 @@ public class HudPanel extends JPanel implements Observer {
 	@Override
 	public void update(Observable o, Object arg) {
 		
+		int previousScore = levelScore;
+		int previousHp = totalHp;
+		int previousBombs = totalBombs;
+		int previousSpeed = totalSpeed;
+		int previousFire = totalFire;
+		
 		//Enemy dead
 		if (o instanceof Enemy) {
 			Enemy enemy = (Enemy)o;
@@ -195,6 +281,12 @@ public class HudPanel extends JPanel implements Observer {
 				totalSpeed = player.getSpeed();
 			}
 		}
+		
+		//Il giocatore notifica ogni spostamento -> ridisegno solo se i valori mostrati sono cambiati
+		if (levelScore != previousScore || totalHp != previousHp || totalBombs != previousBombs
+				|| totalSpeed != previousSpeed || totalFire != previousFire) {
+			changed = true;
+		}
 	}
 	
 	/**
@@ -213,6 +305,7 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setTotalScore(int totalScore) {
 		this.totalScore = totalScore;
+		changed = true;
 	}
 	
 	/**
@@ -231,6 +324,7 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setLevelScore(int levelScore) {
 		this.levelScore = levelScore;
+		changed = true;
 	}
 	
 	/**
@@ -240,6 +334,7 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setTotalHp(int totalHp) {
 		this.totalHp = totalHp;
+		changed = true;
 	}
 
 	/**
@@ -249,6 +344,7 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setTotalBombs(int totalBombs) {
 		this.totalBombs = totalBombs;
+		changed = true;
 	}
 
 	/**
@@ -258,6 +354,7 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setTotalSpeed(int totalSpeed) {
 		this.totalSpeed = totalSpeed;
+		changed = true;
 	}
 
 	/**
@@ -267,5 +364,6 @@ public class HudPanel extends JPanel implements Observer {
 	 */
 	public void setTotalFire(int totalFire) {
 		this.totalFire = totalFire;
+		changed = true;
 	}
 }
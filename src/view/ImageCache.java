@@ -0,0 +1,159 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * Classe che centralizza il caricamento delle immagini usate dai pannelli dell'interfaccia (sfondi e avatar).
+ *
+ * Ogni immagine viene decodificata una sola volta e scalata una sola volta per ogni dimensione richiesta:
+ * le immagini sono indicizzate per percorso e dimensione e convertite in immagini compatibili con lo schermo.
+ * La cache mantiene riferimenti deboli ({@code SoftReference}): in caso di memoria scarsa il garbage collector
+ * puo' liberare le immagini, che vengono ricaricate al successivo utilizzo.
+ *
+ * @author Lorenzo Zanda
+ * @see SpriteAtlas
+ */
+public final class ImageCache {
+
+	/** Immagini decodificate, indicizzate per percorso. */
+	private static final Map<String, SoftReference<BufferedImage>> images = new HashMap<String, SoftReference<BufferedImage>>();
+
+	/** Immagini scalate, indicizzate per percorso, dimensione e qualita' della scalatura. */
+	private static final Map<String, SoftReference<BufferedImage>> scaledImages = new HashMap<String, SoftReference<BufferedImage>>();
+
+	/**
+	 * Costruttore privato: la classe espone soltanto metodi statici.
+	 */
+	private ImageCache() {
+	}
+
+	/**
+	 * Restituisce l'immagine specificata, decodificandola se non e' presente nella cache.
+	 *
+	 * @param path Il percorso dell'immagine.
+	 * @return L'immagine decodificata, oppure {@code null} se l'immagine non e' disponibile.
+	 */
+	public static synchronized BufferedImage getImage(String path) {
+
+		BufferedImage image = lookup(images, path);
+		if (image == null) {
+			try (InputStream in = ImageCache.class.getResourceAsStream(path)) {
+				image = ImageIO.read(in);
+			} catch (IOException | IllegalArgumentException e) {
+				e.printStackTrace();
+				return null;
+			}
+			store(images, path, image);
+		}
+		return image;
+	}
+
+	/**
+	 * Restituisce l'immagine specificata scalata alle dimensioni richieste (nearest neighbour), adatta agli sfondi in pixel art.
+	 *
+	 * @param path Il percorso dell'immagine.
+	 * @param width La larghezza finale.
+	 * @param height L'altezza finale.
+	 * @return L'immagine scalata, oppure {@code null} se l'immagine non e' disponibile.
+	 */
+	public static BufferedImage getScaledImage(String path, int width, int height) {
+		return getScaledImage(path, width, height, false);
+	}
+
+	/**
+	 * Restituisce l'immagine specificata scalata alle dimensioni richieste con interpolazione bicubica, adatta agli avatar.
+	 *
+	 * @param path Il percorso dell'immagine.
+	 * @param width La larghezza finale.
+	 * @param height L'altezza finale.
+	 * @return L'immagine scalata, oppure {@code null} se l'immagine non e' disponibile.
+	 */
+	public static BufferedImage getSmoothScaledImage(String path, int width, int height) {
+		return getScaledImage(path, width, height, true);
+	}
+
+	/**
+	 * Restituisce l'immagine specificata scalata alle dimensioni richieste, scalandola se non e' presente nella cache.
+	 *
+	 * @param path Il percorso dell'immagine.
+	 * @param width La larghezza finale.
+	 * @param height L'altezza finale.
+	 * @param smooth {@code true} per l'interpolazione bicubica, {@code false} per il nearest neighbour.
+	 * @return L'immagine scalata, oppure {@code null} se l'immagine non e' disponibile.
+	 */
+	private static synchronized BufferedImage getScaledImage(String path, int width, int height, boolean smooth) {
+
+		width = Math.max(1, width);
+		height = Math.max(1, height);
+
+		String key = path + '@' + width + 'x' + height + (smooth ? "/smooth" : "");
+		BufferedImage scaled = lookup(scaledImages, key);
+
+		if (scaled == null) {
+			BufferedImage image = getImage(path);
+			if (image == null) return null;
+
+			scaled = createCompatibleImage(width, height);
+			Graphics2D g2 = scaled.createGraphics();
+			g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, smooth
+					? RenderingHints.VALUE_INTERPOLATION_BICUBIC
+					: RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			g2.drawImage(image, 0, 0, width, height, null);
+			g2.dispose();
+
+			store(scaledImages, key, scaled);
+		}
+		return scaled;
+	}
+
+	/**
+	 * Cerca un'immagine nella cache specificata.
+	 *
+	 * @param cache La cache in cui cercare.
+	 * @param key La chiave dell'immagine.
+	 * @return L'immagine, oppure {@code null} se assente o gia' liberata dal garbage collector.
+	 */
+	private static BufferedImage lookup(Map<String, SoftReference<BufferedImage>> cache, String key) {
+		SoftReference<BufferedImage> reference = cache.get(key);
+		return (reference != null) ? reference.get() : null;
+	}
+
+	/**
+	 * Inserisce un'immagine nella cache specificata, rimuovendo le voci gia' liberate dal garbage collector.
+	 *
+	 * @param cache La cache in cui inserire l'immagine.
+	 * @param key La chiave dell'immagine.
+	 * @param image L'immagine da inserire.
+	 */
+	private static void store(Map<String, SoftReference<BufferedImage>> cache, String key, BufferedImage image) {
+		cache.values().removeIf(reference -> reference.get() == null);
+		cache.put(key, new SoftReference<BufferedImage>(image));
+	}
+
+	/**
+	 * Crea un'immagine compatibile con la configurazione grafica dello schermo.
+	 *
+	 * @param width La larghezza dell'immagine.
+	 * @param height L'altezza dell'immagine.
+	 * @return L'immagine creata.
+	 */
+	private static BufferedImage createCompatibleImage(int width, int height) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+				.getDefaultScreenDevice().getDefaultConfiguration();
+		return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+}
@@ -7,10 +7,8 @@ import java.awt.GridBagLayout;
 import java.awt.Image;
 import java.awt.Insets;
 import java.awt.event.KeyEvent;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
 import javax.swing.ButtonGroup;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -67,8 +65,8 @@ public class LoginPanel extends JPanel{
     /** Pulsante per confermare l'avatar e completare la procedura di login. */
     private JButton confirmButton;
 
-    /** Immagine di sfondo del pannello di login. */
-    private Image backgroundImage;
+    /** Percorso dell'immagine di sfondo del pannello di login. */
+    private static final String BACKGROUND = "/images/cover.png";
 
     /**
      * Costruttore della classe {@code LoginPanel}.
@@ -198,12 +196,7 @@ public class LoginPanel extends JPanel{
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		try {
-			backgroundImage = ImageIO.read(getClass().getResourceAsStream("/images/cover.png"));
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g.drawImage(ImageCache.getScaledImage(BACKGROUND, getWidth(), getHeight()), 0, 0, null);
 	}
 	
     /**
@@ -213,13 +206,9 @@ public class LoginPanel extends JPanel{
      * @param imagePath Percorso dell'immagine dell'avatar.
      */
     private void addAvatar(String command, String imagePath) {
-		try {
-			Image img = ImageIO.read(getClass().getResourceAsStream(imagePath)).getScaledInstance(Constants.SCALED_TILESIZE, Constants.SCALED_TILESIZE, Image.SCALE_SMOOTH);
-	        JLabel avatarLabel = new JLabel(new ImageIcon(img));
-	        avatarLabels.add(avatarLabel);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		Image img = ImageCache.getSmoothScaledImage(imagePath, Constants.SCALED_TILESIZE, Constants.SCALED_TILESIZE);
+        JLabel avatarLabel = (img != null) ? new JLabel(new ImageIcon(img)) : new JLabel();
+        avatarLabels.add(avatarLabel);
 
         JRadioButton avatarButton = new JRadioButton();
         avatarButton.setActionCommand(command);
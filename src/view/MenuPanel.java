@@ -5,10 +5,7 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.Image;
 import java.awt.Insets;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.JButton;
 import javax.swing.JPanel;
 import utilities.Constants;
@@ -39,8 +36,8 @@ public class MenuPanel extends JPanel {
     /** Pulsante per cambiare utente. */
     private JButton changeUserButton;
 
-    /** Immagine di sfondo del pannello del menu. */
-    private Image backgroundImage;
+    /** Percorso dell'immagine di sfondo del pannello del menu. */
+    private static final String BACKGROUND = "/images/cover.png";
 	
     /**
      * Costruttore della classe {@code MenuPanel}.
@@ -105,12 +102,7 @@ public class MenuPanel extends JPanel {
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		try {
-			backgroundImage = ImageIO.read(getClass().getResourceAsStream(("/images/cover.png")));
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g.drawImage(ImageCache.getScaledImage(BACKGROUND, getWidth(), getHeight()), 0, 0, null);
 	}
 
     /**
@@ -1,14 +1,9 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.AnimationState;
 import model.Move;
 import model.Player;
@@ -54,23 +49,27 @@ public class PlayerView implements Observer {
     /** Flag che indica se una delle animazioni del giocatore a ciclo unico e' terminata. */
 	private boolean animationFinished;
     
-    /** Array di frame per l'animazione quando il giocatore e' fermo. */
-	private BufferedImage[] idleFrames;
+    /** Frame per l'animazione quando il giocatore e' fermo. */
+	private static final List<BufferedImage> idleFrames = idleSprites(SpriteAtlas.PLAYER_SHEET);
     
-    /** Array di frame per l'animazione quando il giocatore e' fermo ed e' immortale.*/
-	private BufferedImage[] damagedIdleFrames;
+    /** Frame per l'animazione quando il giocatore e' fermo ed e' immortale.*/
+	private static final List<BufferedImage> damagedIdleFrames = idleSprites(SpriteAtlas.DAMAGED_PLAYER_SHEET);
     
-    /** Array di frame per l'animazione di movimento del giocatore. */
-	private BufferedImage[] walkingFrames;
+    /** Frame per l'animazione di movimento del giocatore (quattro frame per direzione). */
+	private static final List<BufferedImage> walkingFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.PLAYER_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16);
     
-    /** Array di frame per l'animazione di movimento del giocatore ed e' immortale. */
-	private BufferedImage[] damagedWalkingFrames;
+    /** Frame per l'animazione di movimento del giocatore ed e' immortale. */
+	private static final List<BufferedImage> damagedWalkingFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.DAMAGED_PLAYER_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16);
     
-    /** Array di frame per l'animazione della morte del giocatore. */
-	private BufferedImage[] dyingFrames;
+    /** Frame per l'animazione della morte del giocatore. */
+	private static final List<BufferedImage> dyingFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.PLAYER_SHEET, 0, 4*Constants.TILESIZE, Constants.TILESIZE, 2*Constants.TILESIZE, 7);
     
-    /** Array di frame per l'animazione della vittoria del giocatore. */
-	private BufferedImage[] winningFrames;
+    /** Frame per l'animazione della vittoria del giocatore. */
+	private static final List<BufferedImage> winningFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.PLAYER_SHEET, 0, 6*Constants.TILESIZE, Constants.TILESIZE, 2*Constants.TILESIZE, 13);
     
     /** Lista di immagini correnti per l'animazione del giocatore. */
 	private List<BufferedImage> sprites;
@@ -91,60 +90,25 @@ public class PlayerView implements Observer {
 	 * Costruttore dell classe {@code PlayerView}.
 	 */
 	public PlayerView() {
-
-		idleFrames = new BufferedImage[4];
-		damagedIdleFrames = new BufferedImage[4];
-		walkingFrames = new BufferedImage[16];
-		damagedWalkingFrames = new BufferedImage[16];
-		dyingFrames = new BufferedImage[7];
-		winningFrames = new BufferedImage[13];
-		sprites = new ArrayList<BufferedImage>();
-		damagedSprites = new ArrayList<BufferedImage>();
-		
-		setSprites();
+		sprites = idleFrames;
+		damagedSprites = damagedIdleFrames;
 	}
 	
 	 /**
-     * Imposta gli sprite del giocatore utilizzati per le diverse animazioni.
-     * Carica e seleziona gli sprite dallo sprite sheet corrispondente e li assegna agli array a seconda dell'animazione a cui fanno riferimento.
+     * Imposta i frame dell'animazione del giocatore fermo, uno per direzione (giu', sinistra, destra, su).
+     *
+     * @param sheet Lo sprite sheet da cui ritagliare i frame.
+     * @return La lista immutabile dei frame.
      */
-	private void setSprites() {
-		
-		//Gestione Sprites
+	private static List<BufferedImage> idleSprites(String sheet) {
 		
 		int tileSize = Constants.TILESIZE;
 		
-		try {
-			BufferedImage playerSheet  = ImageIO.read(getClass().getResourceAsStream("/sprites/player-sheet.png"));
-			BufferedImage damagedSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/damaged-player-sheet.png"));
-			
-			
-			idleFrames[0] = playerSheet.getSubimage(tileSize, 0, tileSize, 2*tileSize);
-			idleFrames[1] = playerSheet.getSubimage(5*tileSize, 0, tileSize, 2*tileSize);
-			idleFrames[2] = playerSheet.getSubimage(9*tileSize, 0, tileSize, 2*tileSize);
-			idleFrames[3] = playerSheet.getSubimage(13*tileSize, 0, tileSize, 2*tileSize);
-			damagedIdleFrames[0] = damagedSheet.getSubimage(tileSize, 0, tileSize, 2*tileSize);
-			damagedIdleFrames[1] = damagedSheet.getSubimage(5*tileSize, 0, tileSize, 2*tileSize);
-			damagedIdleFrames[2] = damagedSheet.getSubimage(9*tileSize, 0, tileSize, 2*tileSize);
-			damagedIdleFrames[3] = damagedSheet.getSubimage(13*tileSize, 0, tileSize, 2*tileSize);
-			
-			
-			for (int i = 0; i < walkingFrames.length; i++) {
-				walkingFrames[i] = playerSheet.getSubimage(i*tileSize, 0, tileSize, 2*tileSize);
-				damagedWalkingFrames[i] = damagedSheet.getSubimage(i*tileSize, 0, tileSize, 2*tileSize);
-			}
-			
-			for(int i = 0; i < dyingFrames.length; i++) {
-				dyingFrames[i] = playerSheet.getSubimage(i*tileSize, 4*tileSize, tileSize, 2*tileSize);
-			}
-			
-			for (int i = 0; i < winningFrames.length; i++) {
-				winningFrames[i] = playerSheet.getSubimage(i*tileSize, 6*tileSize, tileSize, 2*tileSize);	
-			}
-			
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return List.of(
+				SpriteAtlas.getFrame(sheet, tileSize, 0, tileSize, 2*tileSize),
+				SpriteAtlas.getFrame(sheet, 5*tileSize, 0, tileSize, 2*tileSize),
+				SpriteAtlas.getFrame(sheet, 9*tileSize, 0, tileSize, 2*tileSize),
+				SpriteAtlas.getFrame(sheet, 13*tileSize, 0, tileSize, 2*tileSize));
 	}
 	
 	  /**
@@ -206,7 +170,8 @@ public class PlayerView implements Observer {
      */
 	public void immortalAnimation() {
 		
-		if (currentTime - immortalAnimationCooldown > IMMORTAL_ANIMATION_COOLDOWN) {
+		//Orologio ripartito da zero con un nuovo terreno -> il cooldown riparte
+		if (currentTime < immortalAnimationCooldown || currentTime - immortalAnimationCooldown > IMMORTAL_ANIMATION_COOLDOWN) {
 	        immortalAnimationCooldown = currentTime;
 	        damagedAnimation = !damagedAnimation;
 	    }
@@ -225,39 +190,39 @@ public class PlayerView implements Observer {
 		if (animationState == AnimationState.WALKING) {
 			switch(direction) {
 				case DOWN   -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 0, 4));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 0, 4));
+					sprites = walkingFrames.subList(0, 4);
+					damagedSprites = damagedWalkingFrames.subList(0, 4);
 					idleFrame = 0;
 				}
 				case LEFT   -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 4, 8));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 4, 8));
+					sprites = walkingFrames.subList(4, 8);
+					damagedSprites = damagedWalkingFrames.subList(4, 8);
 					idleFrame = 1;
 				}
 				case RIGHT  -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 8, 12));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 8, 12));
+					sprites = walkingFrames.subList(8, 12);
+					damagedSprites = damagedWalkingFrames.subList(8, 12);
 					idleFrame = 2;
 				}
 				case UP     -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 12, 16));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 12, 16));
+					sprites = walkingFrames.subList(12, 16);
+					damagedSprites = damagedWalkingFrames.subList(12, 16);
 					idleFrame = 3;
 				}
 			}	
 		}
 		
 		if (animationState == AnimationState.IDLE) {
-			sprites = Arrays.asList(idleFrames);
-			damagedSprites = Arrays.asList(damagedIdleFrames);
+			sprites = idleFrames;
+			damagedSprites = damagedIdleFrames;
 		}
 		
 		if (animationState == AnimationState.DYING) {
-			sprites = Arrays.asList(dyingFrames);
+			sprites = dyingFrames;
 		}
 		
 		if (animationState == AnimationState.WINNING) {
-			sprites = Arrays.asList(winningFrames);
+			sprites = winningFrames;
 		}
 	}
 
@@ -273,26 +238,23 @@ public class PlayerView implements Observer {
 			damaged = player.isDamaged();
 			animationState = player.getAnimationState();
 			direction = player.getDirection();
+			currentTime = player.getCurrentTime();
 			if (animationState == AnimationState.DYING) {
 				currentFrame = 0;
 			}
 		}
-		
-		if (arg != null && arg instanceof Long) {
-			currentTime = (long)arg;
-		}
 	}
 	
     /**
      * Disegna il giocatore.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		
 		int playerX = x; 
 		int playerY = y - TILESIZE;
-		g2.drawImage(getCurrentFrame(), playerX, playerY, TILESIZE, 2*TILESIZE, null);
+		frame.add(getCurrentFrame(), playerX, playerY);
 	}
 	
     /**
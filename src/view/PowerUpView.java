@@ -1,11 +1,11 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.PowerUp;
 import model.PowerUpType;
 import utilities.Constants;
@@ -29,8 +29,11 @@ public class PowerUpView implements Observer {
     /** Tipo del power-up. */
 	private PowerUpType type;
     
-    /** Array di frame per l'animazione del power-up. */
-	private BufferedImage[] sprites;
+    /** Frame per l'animazione del power-up. */
+	private List<BufferedImage> sprites;
+    
+    /** Frame delle animazioni di ogni tipo di power-up, condivisi da tutti i power-up. */
+	private static final Map<PowerUpType, List<BufferedImage>> powerUpSprites = setSprites();
     
     /** Frame corrente dell'animazione. */
 	private double currentFrame;
@@ -42,55 +45,38 @@ public class PowerUpView implements Observer {
 	 * Costruttore della classe {@code PowerUpView}.
 	 */
 	public PowerUpView() {
-		sprites = new BufferedImage[2];
 	}
 	
 	/**
-	 * Imposta gli sprite del power-up in base al tipo.
+	 * Imposta gli sprite di ogni tipo di power-up.
+	 * Ogni tipo occupa una colonna dello sprite sheet, con i due frame dell'animazione uno sotto l'altro.
+	 *
+	 * @return La mappa che associa ogni tipo di power-up ai frame della sua animazione.
 	 */
-	private void setSprites() {
+	private static Map<PowerUpType, List<BufferedImage>> setSprites() {
 		
 		//Gestione Sprites
 		
 		int tileSize = 16;
+		Map<PowerUpType, List<BufferedImage>> map = new EnumMap<PowerUpType, List<BufferedImage>>(PowerUpType.class);
 		
-		try {
-			BufferedImage powerUpSheet = ImageIO.read(getClass().getResourceAsStream("/sprites/powerups-sheet.png"));
+		for (PowerUpType type : PowerUpType.values()) {
 			
-			switch(type) {
-				case BOMBUP -> {
-					sprites[0] = powerUpSheet.getSubimage(0, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(0, tileSize, tileSize, tileSize);
-				}
-				case ACCELERATOR  -> {
-					sprites[0] = powerUpSheet.getSubimage(tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(tileSize, tileSize, tileSize, tileSize);
-				}
-				case FIRE   -> {
-					sprites[0] = powerUpSheet.getSubimage(2*tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(2*tileSize, tileSize, tileSize, tileSize);
-				}
-				case BOMBERMAN  -> {
-					sprites[0] = powerUpSheet.getSubimage(3*tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(3*tileSize, tileSize, tileSize, tileSize);
-				}
-				case RICE_BALL -> {
-					sprites[0] = powerUpSheet.getSubimage(4*tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(4*tileSize, tileSize, tileSize, tileSize);
-				}
-				case APPLE ->  {
-					sprites[0] = powerUpSheet.getSubimage(5*tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(5*tileSize, tileSize, tileSize, tileSize);
-				}
-				case ICE_CREAM_CONE -> {
-					sprites[0] = powerUpSheet.getSubimage(6*tileSize, 0, tileSize, tileSize);
-					sprites[1] = powerUpSheet.getSubimage(6*tileSize, tileSize, tileSize, tileSize);
-				}
-			}
+			int column = switch(type) {
+				case BOMBUP         -> 0;
+				case ACCELERATOR    -> 1;
+				case FIRE           -> 2;
+				case BOMBERMAN      -> 3;
+				case RICE_BALL      -> 4;
+				case APPLE          -> 5;
+				case ICE_CREAM_CONE -> 6;
+			};
 			
-		} catch (IOException e) {
-			e.printStackTrace();
+			map.put(type, List.of(
+					SpriteAtlas.getFrame(SpriteAtlas.POWERUPS_SHEET, column*tileSize, 0, tileSize, tileSize),
+					SpriteAtlas.getFrame(SpriteAtlas.POWERUPS_SHEET, column*tileSize, tileSize, tileSize, tileSize)));
 		}
+		return map;
 	}
 	
 	/**
@@ -100,7 +86,7 @@ public class PowerUpView implements Observer {
 	 */
 	public BufferedImage getCurrentFrame() {
 		updateAnimation(0.5);
-		return sprites[(int)currentFrame % sprites.length];
+		return sprites.get((int)currentFrame % sprites.size());
 	}
 	
     /**
@@ -110,7 +96,7 @@ public class PowerUpView implements Observer {
      */
 	public void updateAnimation(double animationSpeed) {
 		
-		if (currentFrame >= sprites.length) {
+		if (currentFrame >= sprites.size()) {
 			currentFrame = 0;
 		}
 		
@@ -129,21 +115,21 @@ public class PowerUpView implements Observer {
 			x = powerUp.getX();
 			y = powerUp.getY();
 			type = powerUp.getType();
-			setSprites();
+			sprites = powerUpSprites.get(type);
 		}
 	}
 	
     /**
      * Disegna il power-up.
      *
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
      */
-	public void draw(Graphics2D g2) {
+	public void draw(RenderSnapshot.Builder frame) {
 		
 		int powerUpX = x * TILESIZE;
 		int powerUpY = y * TILESIZE;
 		
-		g2.drawImage(getCurrentFrame(), powerUpX, powerUpY, TILESIZE, TILESIZE, null);
+		frame.add(getCurrentFrame(), powerUpX, powerUpY);
 	}
 }
 
@@ -1,7 +1,7 @@
 package view;
 
 import java.awt.image.BufferedImage;
-import java.util.Arrays;
+import java.util.List;
 import model.AnimationState;
 import utilities.Constants;
 
@@ -15,32 +15,18 @@ import utilities.Constants;
  */
 public class PuropenView extends EnemyView {
 	
-    /** Array di immagini che compongono l'animazione di camminata del "Puropen". */
-	private BufferedImage[] walkingFrames;
+    /** Immagini che compongono l'animazione di camminata del "Puropen" (quattro frame per direzione). */
+	private static final List<BufferedImage> walkingFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.ENEMIES_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16);
     
-    /** Array di immagini che compongono l'animazione di camminata del "Puropen" quando e' immortale. */
-	private BufferedImage[] damagedWalkingFrames;
+    /** Immagini che compongono l'animazione di camminata del "Puropen" quando e' immortale. */
+	private static final List<BufferedImage> damagedWalkingFrames = 
+			SpriteAtlas.getRow(SpriteAtlas.DAMAGED_ENEMIES_SHEET, 0, 0, Constants.TILESIZE, 2*Constants.TILESIZE, 16);
 	
 	/**
 	 * Costruttore della classe {@code PuropenView}.
 	 */
 	public PuropenView() {
-		walkingFrames = new BufferedImage[16];
-		damagedWalkingFrames = new BufferedImage[16];
-		setSprites();
-	}
-
-    /**
-     * Imposta gli sprite del Puropen.
-     */
-	private void setSprites() {
-		
-		int tileSize = Constants.TILESIZE;
-		
-		for (int i = 0; i < walkingFrames.length; i++) {
-			walkingFrames[i] = enemiesSheet.getSubimage(i*tileSize, 0, tileSize, 2*tileSize);
-			damagedWalkingFrames[i] = enemiesDamagedSheet.getSubimage(i*tileSize, 0, tileSize, 2*tileSize);
-		}
 	}
 
     /**
@@ -50,26 +36,26 @@ public class PuropenView extends EnemyView {
 	protected void manageAnimation() {
 		
 		if (animationState == AnimationState.DYING) {
-			sprites = Arrays.asList(explosion);
+			sprites = explosion;
 		}
 		
 		else {
 			switch(direction) {
 				case LEFT  -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 0, 4));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 0, 4));
+					sprites = walkingFrames.subList(0, 4);
+					damagedSprites = damagedWalkingFrames.subList(0, 4);
 				}
 				case DOWN  -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 4, 8));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 4, 8));
+					sprites = walkingFrames.subList(4, 8);
+					damagedSprites = damagedWalkingFrames.subList(4, 8);
 				}
 				case UP    -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 8, 12));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 8, 12));
+					sprites = walkingFrames.subList(8, 12);
+					damagedSprites = damagedWalkingFrames.subList(8, 12);
 				}
 				case RIGHT -> {
-					sprites = Arrays.asList(Arrays.copyOfRange(walkingFrames, 12, 16));
-					damagedSprites = Arrays.asList(Arrays.copyOfRange(damagedWalkingFrames, 12, 16));
+					sprites = walkingFrames.subList(12, 16);
+					damagedSprites = damagedWalkingFrames.subList(12, 16);
 				}
 			}
 		}	
@@ -0,0 +1,173 @@
+package view;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import model.TileType;
+
+/**
+ * Classe che rappresenta un'istantanea immutabile di cio' che il pannello di gioco deve disegnare.
+ *
+ * L'istantanea viene costruita dal thread del {@code GameLoop} al termine dei tick di ogni frame e pubblicata
+ * al pannello, che la disegna sull'Event Dispatch Thread. Oltre ai tipi delle celle, usati per lo sfondo statico,
+ * contiene una lista di sprite, nell'ordine in cui vanno disegnati: per ciascuno l'immagine del frame corrente,
+ * gia' scalata dallo {@code SpriteAtlas}, e la posizione, copiate dalle viste al momento della pubblicazione.
+ * Le viste (e le loro animazioni) sono quindi lette e aggiornate solo dal thread della simulazione,
+ * mentre il thread di Swing legge soltanto i valori copiati nell'istantanea.
+ *
+ * @author Lorenzo Zanda
+ * @see BomberManPanel
+ */
+public final class RenderSnapshot {
+
+	private final int level;
+	private final int layoutVersion;
+	private final TileType[][] ground;
+	private final BufferedImage[] images;
+	private final int[] xs;
+	private final int[] ys;
+	private final int size;
+
+	/**
+	 * Costruisce una nuova istantanea a partire dal costruttore specificato, copiandone gli sprite.
+	 *
+	 * @param builder Il costruttore da cui copiare gli sprite.
+	 */
+	private RenderSnapshot(Builder builder) {
+		this.level = builder.level;
+		this.layoutVersion = builder.layoutVersion;
+		this.ground = builder.ground;
+		this.size = builder.size;
+		this.images = Arrays.copyOf(builder.images, size);
+		this.xs = Arrays.copyOf(builder.xs, size);
+		this.ys = Arrays.copyOf(builder.ys, size);
+	}
+
+	/**
+	 * Restituisce il livello corrente del gioco.
+	 *
+	 * @return Il livello del gioco.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Restituisce la versione della disposizione del terreno da cui e' stata copiata la matrice dei tipi di cella.
+	 *
+	 * @return La versione della disposizione del terreno.
+	 */
+	public int getLayoutVersion() {
+		return layoutVersion;
+	}
+
+	/**
+	 * Restituisce i tipi delle celle del terreno. La matrice e' condivisa e non deve essere modificata.
+	 *
+	 * @return I tipi delle celle, indicizzati per riga e colonna.
+	 */
+	public TileType[][] getGround() {
+		return ground;
+	}
+
+	/**
+	 * Restituisce il numero di sprite dell'istantanea.
+	 *
+	 * @return Il numero di sprite.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Restituisce l'immagine dello sprite specificato.
+	 *
+	 * @param i L'indice dello sprite, nell'ordine di disegno.
+	 * @return L'immagine del frame corrente dello sprite.
+	 */
+	public BufferedImage getImage(int i) {
+		return images[i];
+	}
+
+	/**
+	 * Restituisce la coordinata x (in pixel) dello sprite specificato.
+	 *
+	 * @param i L'indice dello sprite, nell'ordine di disegno.
+	 * @return La coordinata x dello sprite.
+	 */
+	public int getX(int i) {
+		return xs[i];
+	}
+
+	/**
+	 * Restituisce la coordinata y (in pixel) dello sprite specificato.
+	 *
+	 * @param i L'indice dello sprite, nell'ordine di disegno.
+	 * @return La coordinata y dello sprite.
+	 */
+	public int getY(int i) {
+		return ys[i];
+	}
+
+	/**
+	 * Classe che raccoglie, sul thread della simulazione, gli sprite di un'istantanea.
+	 * Gli array vengono riutilizzati tra un frame e l'altro e copiati solo alla costruzione dell'istantanea.
+	 */
+	public static final class Builder {
+
+		private int level;
+		private int layoutVersion;
+		private TileType[][] ground;
+		private BufferedImage[] images = new BufferedImage[64];
+		private int[] xs = new int[64];
+		private int[] ys = new int[64];
+		private int size;
+
+		/**
+		 * Inizia una nuova istantanea, scartando gli sprite raccolti in precedenza.
+		 *
+		 * @param level Il livello corrente del gioco.
+		 * @param layoutVersion La versione della disposizione del terreno da cui e' stata copiata la matrice dei tipi.
+		 * @param ground I tipi delle celle del terreno, che non devono essere piu' modificati.
+		 * @return Il costruttore stesso.
+		 */
+		public Builder reset(int level, int layoutVersion, TileType[][] ground) {
+			this.level = level;
+			this.layoutVersion = layoutVersion;
+			this.ground = ground;
+			Arrays.fill(images, 0, size, null);
+			size = 0;
+			return this;
+		}
+
+		/**
+		 * Aggiunge uno sprite in cima a quelli gia' raccolti.
+		 *
+		 * @param image L'immagine del frame corrente.
+		 * @param x La coordinata x (in pixel) dello sprite.
+		 * @param y La coordinata y (in pixel) dello sprite.
+		 */
+		public void add(BufferedImage image, int x, int y) {
+
+			if (size == images.length) {
+				int capacity = size * 2;
+				images = Arrays.copyOf(images, capacity);
+				xs = Arrays.copyOf(xs, capacity);
+				ys = Arrays.copyOf(ys, capacity);
+			}
+
+			images[size] = image;
+			xs[size] = x;
+			ys[size] = y;
+			size++;
+		}
+
+		/**
+		 * Costruisce l'istantanea immutabile con gli sprite raccolti.
+		 *
+		 * @return La nuova istantanea.
+		 */
+		public RenderSnapshot build() {
+			return new RenderSnapshot(this);
+		}
+	}
+}
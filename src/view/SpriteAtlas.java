@@ -0,0 +1,177 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import utilities.Constants;
+
+/**
+ * Classe che centralizza il caricamento degli sprite del gioco.
+ *
+ * Ogni sprite sheet presente in {@code resources/sprites} viene decodificato una sola volta.
+ * I singoli frame vengono ritagliati dallo sheet, convertiti in immagini compatibili con la configurazione
+ * grafica dello schermo e pre-scalati di {@link #SPRITE_SCALE}: in questo modo le viste non accedono
+ * piu' al disco durante il gioco e il disegno non deve scalare le immagini ad ogni frame.
+ * Nel rendering a risoluzione nativa i frame restano a 16 pixel e il pannello scala l'intero frame una sola volta.
+ *
+ * Le animazioni vengono restituite come liste immutabili, condivise da tutte le viste dello stesso tipo.
+ *
+ * @author Lorenzo Zanda
+ */
+public final class SpriteAtlas {
+
+	/** Sprite sheet della bomba. */
+	public static final String BOMB_SHEET = "/sprites/bomb-sheet.png";
+	/** Sprite sheet delle esplosioni delle bombe. */
+	public static final String BOMB_EXPLOSION_SHEET = "/sprites/bomb-explosion-sheet.png";
+	/** Sprite sheet dei nemici. */
+	public static final String ENEMIES_SHEET = "/sprites/enemies-sheet.png";
+	/** Sprite sheet dei nemici danneggiati. */
+	public static final String DAMAGED_ENEMIES_SHEET = "/sprites/damaged-enemies-sheet.png";
+	/** Sprite sheet dell'esplosione dei nemici. */
+	public static final String ENEMY_EXPLOSION_SHEET = "/sprites/enemy-explosion-sheet.png";
+	/** Sprite sheet dell'uscita. */
+	public static final String EXIT_SHEET = "/sprites/exit-sheet.png";
+	/** Sprite sheet del terreno. */
+	public static final String FLOOR_SHEET = "/sprites/floor-sheet.png";
+	/** Sprite sheet dei numeri. */
+	public static final String NUMBERS_SHEET = "/sprites/numbers-sheet.png";
+	/** Sprite sheet del giocatore. */
+	public static final String PLAYER_SHEET = "/sprites/player-sheet.png";
+	/** Sprite sheet del giocatore danneggiato. */
+	public static final String DAMAGED_PLAYER_SHEET = "/sprites/damaged-player-sheet.png";
+	/** Sprite sheet dei power-up. */
+	public static final String POWERUPS_SHEET = "/sprites/powerups-sheet.png";
+
+	/** Fattore di scala dei frame delle viste di gioco: 1 nel rendering a risoluzione nativa, {@code Constants.SCALE} altrimenti. */
+	public static final int SPRITE_SCALE = Constants.NATIVE_RENDERING ? 1 : Constants.SCALE;
+
+	/** Sprite sheet decodificati, indicizzati per percorso. */
+	private static final Map<String, BufferedImage> sheets = new HashMap<String, BufferedImage>();
+
+	/** Frame ritagliati e pre-scalati, indicizzati per percorso e regione dello sheet. */
+	private static final Map<String, BufferedImage> frames = new HashMap<String, BufferedImage>();
+
+	/**
+	 * Costruttore privato: la classe espone soltanto metodi statici.
+	 */
+	private SpriteAtlas() {
+	}
+
+	/**
+	 * Restituisce lo sprite sheet specificato, decodificandolo al primo utilizzo.
+	 *
+	 * @param path Il percorso dello sprite sheet.
+	 * @return Lo sprite sheet decodificato.
+	 */
+	public static synchronized BufferedImage getSheet(String path) {
+
+		BufferedImage sheet = sheets.get(path);
+		if (sheet == null) {
+			try (InputStream in = SpriteAtlas.class.getResourceAsStream(path)) {
+				sheet = ImageIO.read(in);
+			} catch (IOException e) {
+				e.printStackTrace();
+				sheet = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+			}
+			sheets.put(path, sheet);
+		}
+		return sheet;
+	}
+
+	/**
+	 * Restituisce un frame ritagliato dallo sprite sheet specificato, pre-scalato di {@link #SPRITE_SCALE}.
+	 * Le coordinate sono espresse in pixel dello sheet originale.
+	 *
+	 * @param path Il percorso dello sprite sheet.
+	 * @param x La coordinata x della regione.
+	 * @param y La coordinata y della regione.
+	 * @param width La larghezza della regione.
+	 * @param height L'altezza della regione.
+	 * @return Il frame pre-scalato.
+	 */
+	public static BufferedImage getFrame(String path, int x, int y, int width, int height) {
+		return getFrame(path, x, y, width, height, SPRITE_SCALE);
+	}
+
+	/**
+	 * Restituisce un frame ritagliato dallo sprite sheet specificato, pre-scalato del fattore indicato.
+	 * Le coordinate sono espresse in pixel dello sheet originale.
+	 *
+	 * @param path Il percorso dello sprite sheet.
+	 * @param x La coordinata x della regione.
+	 * @param y La coordinata y della regione.
+	 * @param width La larghezza della regione.
+	 * @param height L'altezza della regione.
+	 * @param scale Il fattore di scala.
+	 * @return Il frame pre-scalato.
+	 */
+	public static synchronized BufferedImage getFrame(String path, int x, int y, int width, int height, int scale) {
+
+		String key = path + '@' + x + ',' + y + ',' + width + 'x' + height + '*' + scale;
+		BufferedImage frame = frames.get(key);
+
+		if (frame == null) {
+			BufferedImage region = getSheet(path).getSubimage(x, y, width, height);
+			frame = scale(region, width * scale, height * scale);
+			frames.put(key, frame);
+		}
+		return frame;
+	}
+
+	/**
+	 * Restituisce una sequenza di frame consecutivi della stessa dimensione, disposti su una riga dello sheet.
+	 *
+	 * @param path Il percorso dello sprite sheet.
+	 * @param x La coordinata x del primo frame.
+	 * @param y La coordinata y della riga.
+	 * @param width La larghezza di ogni frame.
+	 * @param height L'altezza di ogni frame.
+	 * @param count Il numero di frame.
+	 * @return La lista immutabile dei frame.
+	 */
+	public static List<BufferedImage> getRow(String path, int x, int y, int width, int height, int count) {
+
+		BufferedImage[] row = new BufferedImage[count];
+		for (int i = 0; i < count; i++) {
+			row[i] = getFrame(path, x + i*width, y, width, height);
+		}
+		return List.of(row);
+	}
+
+	/**
+	 * Crea un'immagine compatibile con lo schermo contenente l'immagine specificata scalata (nearest neighbour).
+	 *
+	 * @param image L'immagine da scalare.
+	 * @param width La larghezza finale.
+	 * @param height L'altezza finale.
+	 * @return L'immagine scalata.
+	 */
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+
+		BufferedImage scaled;
+		if (GraphicsEnvironment.isHeadless()) {
+			scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		else {
+			GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDefaultConfiguration();
+			scaled = gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
+
+		Graphics2D g2 = scaled.createGraphics();
+		g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g2.drawImage(image, 0, 0, width, height, null);
+		g2.dispose();
+		return scaled;
+	}
+}
@@ -6,10 +6,8 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Image;
 import java.awt.Insets;
-import java.io.IOException;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
@@ -73,8 +71,8 @@ public class StatsPanel extends JPanel implements Observer {
     /** Pulsante per tornare al menu principale. */
     private JButton backButton;
 
-    /** Immagine di sfondo del pannello delle statistiche. */
-    private Image backgroundImage;
+    /** Percorso dell'immagine di sfondo del pannello delle statistiche. */
+    private static final String BACKGROUND = "/images/cover.png";
 	
     /**
      * Costruttore della classe {@code StatsPanel}.
@@ -93,12 +91,7 @@ public class StatsPanel extends JPanel implements Observer {
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		try {
-			backgroundImage = ImageIO.read(getClass().getResourceAsStream(("/images/cover.png")));
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g.drawImage(ImageCache.getScaledImage(BACKGROUND, getWidth(), getHeight()), 0, 0, null);
 	}
 	
     /**
@@ -123,12 +116,8 @@ public class StatsPanel extends JPanel implements Observer {
 		
 		labelUsername = new BomberManLabel("USERNAME: " + username);
 		
-		try {
-			Image img = ImageIO.read(getClass().getResourceAsStream(path)).getScaledInstance(Constants.SCALED_TILESIZE, Constants.SCALED_TILESIZE, Image.SCALE_SMOOTH);
-	        labelAvatarImage = new JLabel(new ImageIcon(img));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		Image img = ImageCache.getSmoothScaledImage(path, Constants.SCALED_TILESIZE, Constants.SCALED_TILESIZE);
+        labelAvatarImage = (img != null) ? new JLabel(new ImageIcon(img)) : new JLabel();
         
         labelLevel = new BomberManLabel("<html>LEVEL: " + level + expPointsString + "</html>");
         labelGames = new BomberManLabel("<html>GAMES PLAYED: " + gamesPlayed + " (WON: " + gamesWonString +  " / LOST: " + gamesLostString + ")</html>");
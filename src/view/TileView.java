@@ -1,14 +1,10 @@
 package view;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import javax.imageio.ImageIO;
 import model.Tile;
 import model.TileType;
 import utilities.Constants;
@@ -41,23 +37,23 @@ public class TileView implements Observer {
     /** Flag che indica se l'animazione  attiva. */
 	private boolean animate;
     
-    /** Flag che indica se l'animazione  terminata. */
-	private boolean animationFinished;
+    /** Avanzamento della distruzione della cella, letto dal modello. */
+	private double destructionProgress;
 	
-    /** Array di frame per l'animazione di scomparsa di una cella. */
-	private static BufferedImage[] disappearingAnimation;
+    /** Frame per l'animazione di scomparsa di una cella, uno per livello. */
+	private static List<List<BufferedImage>> disappearingAnimation;
     
-    /** Array di frame per le celle animate. */
-	private static BufferedImage[] animatedTiles;
+    /** Frame dell'animazione ciclica delle celle distruttibili, uno per livello (un solo frame se il livello non e' animato). */
+	private static List<List<BufferedImage>> breakableAnimations;
     
-    /** Array di frame per le celle distruttibili. */
-	private static BufferedImage[] breakableSprites;
+    /** Frame per le celle distruttibili, uno per livello. */
+	private static List<BufferedImage> breakableSprites;
     
-    /** Array di frame per le celle indistruttibili. */
-	private static BufferedImage[] unbreakableSprites;
+    /** Frame per le celle indistruttibili, uno per livello. */
+	private static List<BufferedImage> unbreakableSprites;
     
-    /** Array di frame per le celle del pavimento. */
-	private static BufferedImage[] floorSprites;
+    /** Frame per le celle del pavimento, uno per livello. */
+	private static List<BufferedImage> floorSprites;
     
     /** Lista di frame correnti per l'animazione. */
 	private List<BufferedImage> sprites;
@@ -74,7 +70,7 @@ public class TileView implements Observer {
 	 * Costruttore della classe {@code TileView}.
 	 */
 	public TileView() {
-		sprites = new ArrayList<BufferedImage>();
+		sprites = List.of();
 	}
 	
 	/**
@@ -82,37 +78,58 @@ public class TileView implements Observer {
 	 */
 	private static void setSprites() {
 		
-		try {
-			int tileSize = Constants.TILESIZE;
-			BufferedImage floorSheet = ImageIO.read(Tile.class.getResourceAsStream("/sprites/floor-sheet.png"));	
-			
-			animatedTiles = new BufferedImage[4];
-			disappearingAnimation = new BufferedImage[6*Constants.MAX_LEVEL];
-			breakableSprites = new BufferedImage[Constants.MAX_LEVEL];
-			unbreakableSprites = new BufferedImage[Constants.MAX_LEVEL];
-			floorSprites = new BufferedImage[Constants.MAX_LEVEL];
-			
-			for (int i=0; i < Constants.MAX_LEVEL; i++) {
-				 unbreakableSprites[i] = floorSheet.getSubimage(0, i*tileSize, tileSize, tileSize);
-				 floorSprites[i]       = floorSheet.getSubimage(1*tileSize, i*tileSize, tileSize, tileSize);
-				 breakableSprites[i]   = floorSheet.getSubimage(2*tileSize, i*tileSize, tileSize, tileSize);
-			}
-			
-			for (int i=0, j=9; i < animatedTiles.length; i++, j++) {
-				animatedTiles[i] = floorSheet.getSubimage(j*tileSize, tileSize, tileSize, tileSize);
-			}
-			
-			for (int i=0, j=0, k=0; k < disappearingAnimation.length; i++, k++) {
-				if (k != 0 && k % 6 == 0) {
-					i=0;
-					j++;
-				}
-				disappearingAnimation[k] = floorSheet.getSubimage((i+3)*tileSize, j*tileSize, tileSize, tileSize);
-			}
-				
-		} catch(IOException e) {
-			e.printStackTrace();
+		String sheet = SpriteAtlas.FLOOR_SHEET;
+		int tileSize = Constants.TILESIZE;
+		
+		BufferedImage[] unbreakable = new BufferedImage[Constants.MAX_LEVEL];
+		BufferedImage[] floor = new BufferedImage[Constants.MAX_LEVEL];
+		BufferedImage[] breakable = new BufferedImage[Constants.MAX_LEVEL];
+		List<List<BufferedImage>> disappearing = new ArrayList<List<BufferedImage>>(Constants.MAX_LEVEL);
+		List<List<BufferedImage>> animations = new ArrayList<List<BufferedImage>>(Constants.MAX_LEVEL);
+		
+		for (int i=0; i < Constants.MAX_LEVEL; i++) {
+			 unbreakable[i]  = SpriteAtlas.getFrame(sheet, 0, i*tileSize, tileSize, tileSize);
+			 floor[i]        = SpriteAtlas.getFrame(sheet, 1*tileSize, i*tileSize, tileSize, tileSize);
+			 breakable[i]    = SpriteAtlas.getFrame(sheet, 2*tileSize, i*tileSize, tileSize, tileSize);
+			 disappearing.add(SpriteAtlas.getRow(sheet, 3*tileSize, i*tileSize, tileSize, tileSize, 6));
+			 animations.add(List.of(breakable[i]));
+		}
+		
+		//Solo il secondo livello ha celle distruttibili animate (quattro frame nello sheet)
+		animations.set(1, SpriteAtlas.getRow(sheet, 9*tileSize, tileSize, tileSize, tileSize, 4));
+		
+		unbreakableSprites = List.of(unbreakable);
+		floorSprites = List.of(floor);
+		breakableSprites = List.of(breakable);
+		disappearingAnimation = List.copyOf(disappearing);
+		breakableAnimations = List.copyOf(animations);
+	}
+	
+    /**
+     * Verifica se le celle distruttibili del livello specificato hanno un'animazione ciclica,
+     * e vanno quindi ridisegnate ad ogni frame.
+     *
+     * @param level Il livello del gioco.
+     * @return {@code true} se le celle distruttibili del livello sono animate, {@code false} altrimenti.
+     */
+	public static boolean isBreakableAnimated(int level) {
+		return breakableAnimations.get(level).size() > 1;
+	}
+	
+    /**
+     * Restituisce l'immagine statica del terreno sottostante una cella, usata per lo sfondo pre-renderizzato.
+     * Le celle indistruttibili restano tali; sotto le celle distruttibili viene disegnato il pavimento,
+     * che rimane visibile al termine della loro distruzione.
+     *
+     * @param type Il tipo della cella.
+     * @param level Il livello del gioco.
+     * @return L'immagine del terreno sottostante la cella.
+     */
+	public static BufferedImage getGroundFrame(TileType type, int level) {
+		if (type == TileType.UNBREAKABLE) {
+			return unbreakableSprites.get(level);
 		}
+		return floorSprites.get(level);
 	}
 	
     /**
@@ -127,49 +144,43 @@ public class TileView implements Observer {
 			case BREAKABLE -> {
 				
 				if (hit) {
-					sprites = Arrays.asList(Arrays.copyOfRange(disappearingAnimation, 6*level, 6*level+6));
+					sprites = disappearingAnimation.get(level);
 					animate = true;
-					updateAnimation(0.05);
+					currentFrame = Math.min(destructionProgress * sprites.size(), sprites.size() - 1);
 					break;
 				}
 				
-				if (level == 1) {
-					sprites = Arrays.asList(animatedTiles);
+				if (isBreakableAnimated(level)) {
+					sprites = breakableAnimations.get(level);
 					animate = true;
 					updateAnimation(0.1);
 					break;
 				}
 				
 				else {
-					sprites = Arrays.asList(breakableSprites);
+					sprites = breakableSprites;
 				}
 			}
 				
-			case UNBREAKABLE -> sprites = Arrays.asList(unbreakableSprites);
-			case FLOOR -> sprites = Arrays.asList(floorSprites);
+			case UNBREAKABLE -> sprites = unbreakableSprites;
+			case FLOOR -> sprites = floorSprites;
 
 		}
 	}
 	
     /**
-     * Aggiorna l'animazione della cella in base alla velocita' specificata.
+     * Aggiorna l'animazione ciclica della cella in base alla velocita' specificata.
      *
      * @param animationSpeed La velocit dell'animazione.
      */
 	public void updateAnimation(double animationSpeed) {
 		
-		if (hit && currentFrame >= sprites.size()-1) {
-			animationFinished = true;
+		if (currentFrame > sprites.size()) {
+			currentFrame = 0;
 		}
+		
 		else {
-			
-			if (currentFrame > sprites.size()) {
-				currentFrame = 0;
-			}
-			
-			else {
-				currentFrame += animationSpeed;
-			}
+			currentFrame += animationSpeed;
 		}
 	}
 	
@@ -198,30 +209,28 @@ public class TileView implements Observer {
 			y = tile.getY();
 			type = tile.getType();
 			hit = tile.isHit();
+			destructionProgress = tile.getDestructionProgress();
+			
+			//Cella distrutta -> animazioni concluse
+			if (type != TileType.BREAKABLE) {
+				animate = false;
+				currentFrame = 0;
+			}
 		}
 	}
 	
 	/**
 	 * Disegna la cella
 	 * 
-     * @param g2 Oggetto Graphics2D utilizzato per disegnare.
+     * @param frame L'istantanea in costruzione a cui aggiungere lo sprite.
 	 * @param level Livello corrente del livello.
 	 */
-	public void draw(Graphics2D g2, int level) {
+	public void draw(RenderSnapshot.Builder frame, int level) {
 		
 		int cellX = x * TILESIZE;
 		int cellY = y * TILESIZE;
 		
-		g2.drawImage(getCurrentFrame(level), cellX, cellY, TILESIZE, TILESIZE, null);
-	}
-	
-    /**
-     * Verifica se l'animazione della cella  terminata.
-     *
-     * @return {@code true} se l'animazione  terminata, {@code false} altrimenti.
-     */
-	public boolean animationFinished() {
-		return animationFinished;
+		frame.add(getCurrentFrame(level), cellX, cellY);
 	}
 
 }
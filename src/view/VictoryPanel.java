@@ -4,10 +4,7 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.Image;
 import java.awt.Insets;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.JButton;
 import javax.swing.JPanel;
 
@@ -31,8 +28,8 @@ public class VictoryPanel extends JPanel {
     /** Pulsante per uscire dal gioco. */
     private JButton quitButton;
 
-    /** Immagine di sfondo del pannello della vittoria. */
-    private Image backgroundImage;
+    /** Percorso dell'immagine di sfondo del pannello della vittoria. */
+    private static final String BACKGROUND = "/images/victory.png";
 	
     /**
      * Costruttore della classe {@code VictoryPanel}.
@@ -73,12 +70,7 @@ public class VictoryPanel extends JPanel {
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
-        try {
-			backgroundImage = ImageIO.read(getClass().getResourceAsStream("/images/victory.png"));
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		g.drawImage(ImageCache.getScaledImage(BACKGROUND, getWidth(), getHeight()), 0, 0, null);
 	}
 
     /**
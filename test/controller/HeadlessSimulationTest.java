@@ -0,0 +1,64 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import model.Enemy;
+import model.Player;
+
+/**
+ * Verifica che una simulazione headless con seme sia riproducibile, non solo nella mappa iniziale
+ * ma lungo tutta la partita.
+ *
+ * @author Lorenzo Zanda
+ */
+class HeadlessSimulationTest {
+
+	private static final long SEED = 42;
+	private static final int LEVEL = 1;
+	private static final int TICKS = 600;
+
+	/**
+	 * Calcola un'impronta dello stato della simulazione: tick corrente, posizione e direzione dei nemici
+	 * e posizione del giocatore.
+	 *
+	 * @param simulation La simulazione.
+	 * @return L'impronta dello stato.
+	 */
+	private static long hash(HeadlessSimulation simulation) {
+		long hash = simulation.getCurrentTick();
+		for (Enemy enemy : simulation.getFloor().getEnemies()) {
+			hash = hash * 31 + enemy.getX();
+			hash = hash * 31 + enemy.getY();
+			hash = hash * 31 + enemy.getDirection().ordinal();
+		}
+		Player player = simulation.getPlayer();
+		return hash * 31 + player.getX() * 7 + player.getY();
+	}
+
+	@Test
+	void seededResetReplaysTheRun() {
+
+		HeadlessSimulation simulation = new HeadlessSimulation(LEVEL, SEED);
+		long start = hash(simulation);
+		simulation.run(TICKS);
+		long end = hash(simulation);
+
+		simulation.reset();
+		assertEquals(start, hash(simulation));
+		simulation.run(TICKS);
+		assertEquals(end, hash(simulation));
+	}
+
+	@Test
+	void sameSeedReplaysTheRun() {
+
+		HeadlessSimulation first = new HeadlessSimulation(LEVEL, SEED);
+		first.run(TICKS);
+		long end = hash(first);
+
+		HeadlessSimulation second = new HeadlessSimulation(LEVEL, SEED);
+		second.run(TICKS);
+		assertEquals(end, hash(second));
+	}
+}